@@ -28,6 +28,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     compileOnly("org.projectlombok:lombok")
+    // javax.annotation.meta for Spring's @Nullable (optional actuator operation parameters)
+    compileOnly("com.google.code.findbugs:jsr305:3.0.2")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -49,6 +51,8 @@ dependencies {
 
     // OpenFeign for Employee-Service Integration
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
+    // Pooled keep-alive HTTP transport for Feign (Apache HttpClient 5)
+    implementation("io.github.openfeign:feign-hc5")
 
     // Resilience4j for Circuit Breaker
     implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
@@ -57,6 +61,9 @@ dependencies {
     implementation("io.github.resilience4j:resilience4j-retry:2.2.0")
     implementation("org.springframework.boot:spring-boot-starter-aop")
 
+    // Caffeine for the local Employee-Service lookup cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // WireMock for Testing
     testImplementation("org.wiremock:wiremock-standalone:3.3.1")
 }
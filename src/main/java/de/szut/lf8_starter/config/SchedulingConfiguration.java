@@ -0,0 +1,12 @@
+package de.szut.lf8_starter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled jobs (e.g. the employee replica sync)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
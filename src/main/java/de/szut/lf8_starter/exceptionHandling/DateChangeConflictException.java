@@ -0,0 +1,21 @@
+package de.szut.lf8_starter.exceptionHandling;
+
+import de.szut.lf8_starter.project.dto.EmployeeConflictDto;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Getter
+public class DateChangeConflictException extends ResponseStatusException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<EmployeeConflictDto> employeeConflicts;
+
+    public DateChangeConflictException(Long projectId, List<EmployeeConflictDto> employeeConflicts) {
+        super(HttpStatus.CONFLICT, "The new period of project " + projectId + " overlaps other projects of "
+            + employeeConflicts.size() + " assigned employee(s).");
+        this.employeeConflicts = employeeConflicts;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
@@ -145,6 +146,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(DateChangeConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleDateChangeConflict(DateChangeConflictException ex, WebRequest request) {
+        ApiErrorResponse body = ApiErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error(HttpStatus.CONFLICT.getReasonPhrase())
+            .message(ex.getReason())
+            .path(request.getDescription(false).replace("uri=", ""))
+            .employeeConflicts(ex.getEmployeeConflicts())
+            .build();
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(DuplicateAssignmentException.class)
     public ResponseEntity<ApiErrorResponse> handleDuplicateAssignment(DuplicateAssignmentException ex, WebRequest request) {
         DateTimeFormatter df = DateTimeFormatter.ISO_LOCAL_DATE;
@@ -180,6 +194,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrencyFailure(ConcurrencyFailureException ex, WebRequest request) {
+        // Optimistic lock failures and deadlocks between parallel requests: the request itself was valid
+        ApiErrorResponse body = ApiErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error(HttpStatus.CONFLICT.getReasonPhrase())
+            .message("The data was changed by a parallel request. Please retry.")
+            .path(request.getDescription(false).replace("uri=", ""))
+            .build();
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex, WebRequest request) {
         List<ValidationError> errors = new ArrayList<>();
@@ -0,0 +1,184 @@
+package de.szut.lf8_starter.integration.employee;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Local cache in front of {@link EmployeeServiceClient}.
+ * Successful lookups are kept for {@code employee.cache.ttl}, 404 answers for the (shorter)
+ * {@code employee.cache.negative-ttl}. Errors other than 404 are never cached.
+ * Hit/miss/eviction counts are published as {@code cache.*} metrics with tag {@code cache=employee.*}.
+ * <p>
+ * On a miss, concurrent callers for the same employee share one remote call ({@link SingleFlight}).
+ * The call deliberately does not run inside Caffeine's compute: that would hold a lock of the
+ * cache's hash table for the whole remote round trip and block unrelated keys in the same bin.
+ */
+@Component
+@Slf4j
+public class EmployeeLookupCache {
+
+    private final EmployeeServiceClient employeeServiceClient;
+    private final Cache<Long, Lookup<EmployeeDto>> employees;
+    private final Cache<Long, Lookup<EmployeeQualificationsResponseDto>> qualifications;
+    private final SingleFlight<Long, Lookup<EmployeeDto>> employeeFlights;
+    private final SingleFlight<Long, Lookup<EmployeeQualificationsResponseDto>> qualificationFlights;
+    private final int batchSize;
+
+    public EmployeeLookupCache(EmployeeServiceClient employeeServiceClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${employee.cache.ttl:5m}") Duration ttl,
+                               @Value("${employee.cache.negative-ttl:30s}") Duration negativeTtl,
+                               @Value("${employee.cache.max-size:10000}") long maxSize,
+                               @Value("${employee.batch.max-ids:100}") int batchSize) {
+        this.employeeServiceClient = employeeServiceClient;
+        this.batchSize = batchSize;
+        this.employees = CaffeineCacheMetrics.monitor(meterRegistry,
+            buildCache(ttl, negativeTtl, maxSize), "employee.details");
+        this.qualifications = CaffeineCacheMetrics.monitor(meterRegistry,
+            buildCache(ttl, negativeTtl, maxSize), "employee.qualifications");
+        this.employeeFlights = new SingleFlight<>("getEmployee", meterRegistry);
+        this.qualificationFlights = new SingleFlight<>("getQualifications", meterRegistry);
+    }
+
+    /**
+     * Employee details, from the cache if present
+     * @throws EmployeeNotFoundException if the Employee Service answered 404 (also when cached)
+     */
+    public EmployeeDto getEmployee(Long employeeId) {
+        return lookup(employees, employeeFlights, employeeId, employeeServiceClient::getEmployee);
+    }
+
+    /**
+     * Qualifications of an employee, from the cache if present
+     * @throws EmployeeNotFoundException if the Employee Service answered 404 (also when cached)
+     */
+    public EmployeeQualificationsResponseDto getQualifications(Long employeeId) {
+        return lookup(qualifications, qualificationFlights, employeeId, employeeServiceClient::getQualifications);
+    }
+
+    /**
+     * Several employees at once. Cached entries are served locally, the rest is fetched with the
+     * batch endpoint in chunks of {@code employee.batch.max-ids}. IDs the Employee Service does not know
+     * are missing from the result and cached negatively like a 404.
+     */
+    public Map<Long, EmployeeDto> getEmployees(Collection<Long> employeeIds) {
+        Map<Long, EmployeeDto> result = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long employeeId : new LinkedHashSet<>(employeeIds)) {
+            if (employeeId == null) {
+                continue;
+            }
+            Lookup<EmployeeDto> cached = employees.getIfPresent(employeeId);
+            if (cached == null) {
+                missing.add(employeeId);
+            } else if (cached.value() != null) {
+                result.put(employeeId, cached.value());
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Long> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            Map<Long, EmployeeDto> loaded = employeeServiceClient.getEmployees(chunk).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(EmployeeDto::getEmployeeId, Function.identity(), (first, second) -> first));
+
+            for (Long employeeId : chunk) {
+                EmployeeDto employee = loaded.get(employeeId);
+                employees.put(employeeId, employee == null ? Lookup.notFound() : Lookup.found(employee));
+                if (employee != null) {
+                    result.put(employeeId, employee);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(Long employeeId) {
+        employees.invalidate(employeeId);
+        qualifications.invalidate(employeeId);
+    }
+
+    public void invalidateAll() {
+        employees.invalidateAll();
+        qualifications.invalidateAll();
+    }
+
+    private <T> T lookup(Cache<Long, Lookup<T>> cache, SingleFlight<Long, Lookup<T>> flights,
+                         Long employeeId, Function<Long, T> remoteCall) {
+        Lookup<T> lookup = cache.getIfPresent(employeeId);
+        if (lookup == null) {
+            lookup = flights.execute(employeeId, () -> {
+                Lookup<T> loaded;
+                try {
+                    loaded = Lookup.found(remoteCall.apply(employeeId));
+                } catch (EmployeeNotFoundException e) {
+                    log.debug("Employee {} not found, caching negative result", employeeId);
+                    loaded = Lookup.notFound();
+                }
+                // Cached before the flight ends, so late callers find it in the cache
+                cache.put(employeeId, loaded);
+                return loaded;
+            });
+        }
+        if (lookup.value() == null) {
+            throw new EmployeeNotFoundException(employeeId);
+        }
+        return lookup.value();
+    }
+
+    private static <T> Cache<Long, Lookup<T>> buildCache(Duration ttl, Duration negativeTtl, long maxSize) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<Long, Lookup<T>>() {
+                @Override
+                public long expireAfterCreate(Long id, Lookup<T> lookup, long currentTime) {
+                    return (lookup.value() == null ? negativeTtl : ttl).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Long id, Lookup<T> lookup, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(Long id, Lookup<T> lookup, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Cached answer of the Employee Service; a null value stands for 404
+     */
+    record Lookup<T>(T value) {
+        static <T> Lookup<T> found(T value) {
+            return new Lookup<>(value);
+        }
+
+        static <T> Lookup<T> notFound() {
+            return new Lookup<>(null);
+        }
+    }
+}
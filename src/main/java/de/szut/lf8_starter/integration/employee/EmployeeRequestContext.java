@@ -0,0 +1,69 @@
+package de.szut.lf8_starter.integration.employee;
+
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Employees already loaded while handling the current HTTP request.
+ * Lets the response reuse the EmployeeDto fetched during validation instead of asking the Employee Service again.
+ * <p>
+ * The data lives in a request attribute, so it ends with the request. Outside of a request
+ * (scheduler, plain unit tests) nothing is remembered.
+ * <p>
+ * Also carries the "stale" flag: set when the request was answered with last known employee data
+ * because the Employee Service was unavailable (see {@link StaleEmployeeFallback}).
+ */
+@Component
+public class EmployeeRequestContext {
+
+    private static final String EMPLOYEES_ATTRIBUTE = EmployeeRequestContext.class.getName() + ".employees";
+    static final String STALE_ATTRIBUTE = EmployeeRequestContext.class.getName() + ".stale";
+
+    public Optional<EmployeeDto> getEmployee(Long employeeId) {
+        Map<Long, EmployeeDto> employees = employees(false);
+        return employees == null ? Optional.empty() : Optional.ofNullable(employees.get(employeeId));
+    }
+
+    public void rememberEmployee(Long employeeId, EmployeeDto employee) {
+        Map<Long, EmployeeDto> employees = employees(true);
+        if (employees != null && employee != null) {
+            employees.put(employeeId, employee);
+        }
+    }
+
+    public void markStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(STALE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public boolean isStale() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+            && Boolean.TRUE.equals(attributes.getAttribute(STALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, EmployeeDto> employees(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        synchronized (attributes) {
+            Map<Long, EmployeeDto> employees =
+                (Map<Long, EmployeeDto>) attributes.getAttribute(EMPLOYEES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (employees == null && create) {
+                employees = new ConcurrentHashMap<>();
+                attributes.setAttribute(EMPLOYEES_ATTRIBUTE, employees, RequestAttributes.SCOPE_REQUEST);
+            }
+            return employees;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsRespon
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 /**
  * Feign Client for Employee Service
@@ -32,5 +35,22 @@ public interface EmployeeServiceClient {
      */
     @GetMapping("/employees/{employeeId}/qualifications")
     EmployeeQualificationsResponseDto getQualifications(@PathVariable("employeeId") Long employeeId);
+
+    /**
+     * Fetches several employees in one call (GET /employees?ids=1&ids=2)
+     * Unknown IDs are simply missing from the result
+     * @param employeeIds The employee IDs; callers split large sets (see employee.batch.max-ids)
+     * @return the employees found
+     */
+    @GetMapping("/employees")
+    List<EmployeeDto> getEmployees(@RequestParam("ids") List<Long> employeeIds);
+
+    /**
+     * Fetches the complete employee directory (GET /employees without IDs)
+     * Only used by the scheduled replica sync
+     * @return all employees known to the Employee Service
+     */
+    @GetMapping("/employees")
+    List<EmployeeDto> getAllEmployees();
 }
 
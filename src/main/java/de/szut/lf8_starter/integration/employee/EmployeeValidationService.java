@@ -7,6 +7,7 @@ import de.szut.lf8_starter.exceptionHandling.QualificationExpiredException;
 import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
 import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsResponseDto;
 import de.szut.lf8_starter.integration.employee.dto.QualificationDto;
+import de.szut.lf8_starter.integration.employee.replica.EmployeeReplica;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -14,21 +15,39 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Service for validating employees via the Employee Service
- * Uses Circuit Breaker and Retry for resilience
+ * Uses Circuit Breaker and Retry for resilience; lookups go through the {@link EmployeeLookupCache}.
+ * With the {@link EmployeeReplica} enabled, employees are answered locally and only a replica miss goes
+ * remote; the fallbacks use the replica too, so replicated employees validate even with the breaker open.
+ * Without replica entry, the fallbacks serve the last known data ({@link StaleEmployeeFallback}) and mark
+ * the response stale; only employees never loaded before fail with {@link CircuitBreakerOpenException}.
  */
 @Service
 @Slf4j
 public class EmployeeValidationService {
 
-    private final EmployeeServiceClient employeeServiceClient;
+    private final EmployeeLookupCache employeeLookupCache;
+    private final EmployeeRequestContext employeeRequestContext;
+    private final EmployeeReplica employeeReplica;
+    private final StaleEmployeeFallback staleEmployeeFallback;
 
-    public EmployeeValidationService(EmployeeServiceClient employeeServiceClient,
+    public EmployeeValidationService(EmployeeLookupCache employeeLookupCache,
+                                    EmployeeRequestContext employeeRequestContext,
+                                    EmployeeReplica employeeReplica,
+                                    StaleEmployeeFallback staleEmployeeFallback,
                                     CircuitBreakerRegistry circuitBreakerRegistry) {
-        this.employeeServiceClient = employeeServiceClient;
+        this.employeeLookupCache = employeeLookupCache;
+        this.employeeRequestContext = employeeRequestContext;
+        this.employeeReplica = employeeReplica;
+        this.staleEmployeeFallback = staleEmployeeFallback;
     }
 
     /**
@@ -43,8 +62,10 @@ public class EmployeeValidationService {
     public boolean validateEmployee(Long employeeId) {
         log.debug("Validating employee with ID: {}", employeeId);
 
-        EmployeeDto employee = employeeServiceClient.getEmployee(employeeId);
+        return checkActive(employeeId, loadEmployee(employeeId));
+    }
 
+    private boolean checkActive(Long employeeId, EmployeeDto employee) {
         // Check if employee is active
         if (!"ACTIVE".equalsIgnoreCase(employee.getStatus())) {
             log.warn("Employee {} is not active. Status: {}", employeeId, employee.getStatus());
@@ -68,8 +89,17 @@ public class EmployeeValidationService {
     public boolean validateQualification(Long employeeId, String requiredQualification) {
         log.debug("Validating qualification '{}' for employee {}", requiredQualification, employeeId);
 
-        EmployeeQualificationsResponseDto response = employeeServiceClient.getQualifications(employeeId);
+        EmployeeQualificationsResponseDto response = employeeReplica.findQualifications(employeeId)
+            .orElseGet(() -> {
+                EmployeeQualificationsResponseDto loaded = employeeLookupCache.getQualifications(employeeId);
+                staleEmployeeFallback.rememberQualifications(loaded);
+                return loaded;
+            });
+        return checkQualification(employeeId, requiredQualification, response);
+    }
 
+    private boolean checkQualification(Long employeeId, String requiredQualification,
+                                       EmployeeQualificationsResponseDto response) {
         // Check if qualification is present
         Optional<QualificationDto> qualification = response.getQualifications().stream()
             .filter(q -> q.getName().equalsIgnoreCase(requiredQualification))
@@ -96,6 +126,16 @@ public class EmployeeValidationService {
      * Fallback method for validateEmployee when Circuit Breaker is OPEN
      */
     private boolean validateEmployeeFallback(Long employeeId, CallNotPermittedException ex) {
+        Optional<EmployeeDto> replicated = employeeReplica.findEmployee(employeeId);
+        if (replicated.isPresent()) {
+            log.info("Circuit Breaker is OPEN, validating employee {} from the replica", employeeId);
+            return checkActive(employeeId, replicated.get());
+        }
+        Optional<EmployeeDto> lastKnown = staleEmployeeFallback.staleEmployee(employeeId);
+        if (lastKnown.isPresent()) {
+            log.warn("Circuit Breaker is OPEN, validating employee {} with last known (stale) data", employeeId);
+            return checkActive(employeeId, lastKnown.get());
+        }
         log.error("Circuit Breaker is OPEN for employee validation. Employee ID: {}", employeeId);
         // Circuit Breaker is OPEN - throw specific exception
         throw new CircuitBreakerOpenException(io.github.resilience4j.circuitbreaker.CircuitBreaker.State.OPEN, 60);
@@ -105,6 +145,16 @@ public class EmployeeValidationService {
      * Fallback method for validateQualification when Circuit Breaker is OPEN
      */
     private boolean validateQualificationFallback(Long employeeId, String qualification, CallNotPermittedException ex) {
+        Optional<EmployeeQualificationsResponseDto> replicated = employeeReplica.findQualifications(employeeId);
+        if (replicated.isPresent()) {
+            log.info("Circuit Breaker is OPEN, validating qualification of employee {} from the replica", employeeId);
+            return checkQualification(employeeId, qualification, replicated.get());
+        }
+        Optional<EmployeeQualificationsResponseDto> lastKnown = staleEmployeeFallback.staleQualifications(employeeId);
+        if (lastKnown.isPresent()) {
+            log.warn("Circuit Breaker is OPEN, validating qualification of employee {} with last known (stale) data", employeeId);
+            return checkQualification(employeeId, qualification, lastKnown.get());
+        }
         log.error("Circuit Breaker is OPEN for qualification validation. Employee ID: {}, Qualification: {}",
                   employeeId, qualification);
         throw new CircuitBreakerOpenException(io.github.resilience4j.circuitbreaker.CircuitBreaker.State.OPEN, 60);
@@ -116,7 +166,7 @@ public class EmployeeValidationService {
     @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = "employeeService", fallbackMethod = "getEmployeeNameFallback")
     public String getEmployeeName(Long employeeId) {
         try {
-            EmployeeDto employee = employeeServiceClient.getEmployee(employeeId);
+            EmployeeDto employee = loadEmployee(employeeId);
             return employee.getFirstName() + " " + employee.getLastName();
         } catch (Exception e) {
             log.debug("Could not fetch employee name for {}: {}", employeeId, e.getMessage());
@@ -124,6 +174,71 @@ public class EmployeeValidationService {
         }
     }
 
+    /**
+     * Loads an employee at most once per HTTP request: validation and response share the same EmployeeDto.
+     * The replica (if enabled) is asked before the cache / Employee Service.
+     */
+    private EmployeeDto loadEmployee(Long employeeId) {
+        Optional<EmployeeDto> known = employeeRequestContext.getEmployee(employeeId);
+        if (known.isPresent()) {
+            return known.get();
+        }
+        EmployeeDto employee = employeeReplica.findEmployee(employeeId)
+            .orElseGet(() -> {
+                EmployeeDto loaded = employeeLookupCache.getEmployee(employeeId);
+                staleEmployeeFallback.rememberEmployee(loaded);
+                return loaded;
+            });
+        employeeRequestContext.rememberEmployee(employeeId, employee);
+        return employee;
+    }
+
+    /**
+     * Loads several employees with as few remote calls as possible (batch endpoint, chunked)
+     * @param employeeIds The employee IDs
+     * @return the employees found, by ID; unknown IDs are missing
+     * @throws CircuitBreakerOpenException if Circuit Breaker is open
+     */
+    @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = "employeeService", fallbackMethod = "getEmployeesFallback")
+    @Retry(name = "employeeService")
+    public Map<Long, EmployeeDto> getEmployees(Collection<Long> employeeIds) {
+        Map<Long, EmployeeDto> result = new LinkedHashMap<>();
+        List<Long> toLoad = new ArrayList<>();
+        for (Long employeeId : employeeIds) {
+            employeeRequestContext.getEmployee(employeeId)
+                .or(() -> employeeReplica.findEmployee(employeeId))
+                .ifPresentOrElse(
+                    employee -> result.put(employeeId, employee),
+                    () -> toLoad.add(employeeId));
+        }
+
+        employeeLookupCache.getEmployees(toLoad).forEach((employeeId, employee) -> {
+            staleEmployeeFallback.rememberEmployee(employee);
+            employeeRequestContext.rememberEmployee(employeeId, employee);
+            result.put(employeeId, employee);
+        });
+        return result;
+    }
+
+    /**
+     * Fallback method for getEmployees when Circuit Breaker is OPEN
+     */
+    private Map<Long, EmployeeDto> getEmployeesFallback(Collection<Long> employeeIds, CallNotPermittedException ex) {
+        Map<Long, EmployeeDto> known = new LinkedHashMap<>();
+        for (Long employeeId : employeeIds) {
+            employeeReplica.findEmployee(employeeId)
+                .or(() -> staleEmployeeFallback.staleEmployee(employeeId))
+                .ifPresent(employee -> known.put(employeeId, employee));
+        }
+        if (!known.isEmpty()) {
+            log.warn("Circuit Breaker is OPEN, batch employee lookup answered locally for {} of {} employees",
+                     known.size(), employeeIds.size());
+            return known;
+        }
+        log.error("Circuit Breaker is OPEN for batch employee lookup. Employee IDs: {}", employeeIds.size());
+        throw new CircuitBreakerOpenException(io.github.resilience4j.circuitbreaker.CircuitBreaker.State.OPEN, 60);
+    }
+
     /**
      * Fallback for getEmployeeName
      */
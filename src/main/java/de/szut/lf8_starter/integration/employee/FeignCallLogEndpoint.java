@@ -0,0 +1,69 @@
+package de.szut.lf8_starter.integration.employee;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runtime switch for the Employee Service call log: {@code /actuator/feigncalllog}
+ * <ul>
+ *   <li>GET - current settings</li>
+ *   <li>POST {"fullBodyEmployeeId": 12345} or {"fullBodyPercent": 1} - log full bodies for one employee or a share of calls</li>
+ *   <li>POST {"sampleRatePercent": 5} - change the share of sampled call log lines</li>
+ *   <li>DELETE - switch full bodies off again</li>
+ * </ul>
+ * POST and DELETE require the role hitec-admin.
+ */
+@Component
+@Endpoint(id = "feigncalllog")
+@Slf4j
+public class FeignCallLogEndpoint {
+
+    // Full bodies are expensive; never for more than this share of the traffic
+    private static final double MAX_FULL_BODY_PERCENT = 10.0;
+
+    private final FeignCallLogSettings settings;
+
+    public FeignCallLogEndpoint(FeignCallLogSettings settings) {
+        this.settings = settings;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRatePercent", settings.getSampleRate() * 100);
+        result.put("fullBodyEmployeeId", settings.getFullBodyEmployeeId());
+        result.put("fullBodyPercent", settings.getFullBodyRate() * 100);
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Long fullBodyEmployeeId, @Nullable Double fullBodyPercent,
+                                      @Nullable Double sampleRatePercent) {
+        if (fullBodyEmployeeId != null) {
+            settings.setFullBodyEmployeeId(fullBodyEmployeeId);
+        }
+        if (fullBodyPercent != null) {
+            settings.setFullBodyRate(Math.min(fullBodyPercent, MAX_FULL_BODY_PERCENT) / 100);
+        }
+        if (sampleRatePercent != null) {
+            settings.setSampleRate(sampleRatePercent / 100);
+        }
+        log.info("Employee Service call log changed: {}", settings());
+        return settings();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> resetFullBodies() {
+        settings.resetFullBodies();
+        log.info("Employee Service call log: full bodies switched off");
+        return settings();
+    }
+}
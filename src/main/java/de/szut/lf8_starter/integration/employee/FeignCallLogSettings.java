@@ -0,0 +1,72 @@
+package de.szut.lf8_starter.integration.employee;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runtime settings of the Employee Service call log (see {@link SampledFeignLogger}).
+ * Changed at runtime via the {@code feigncalllog} actuator endpoint.
+ */
+@Component
+public class FeignCallLogSettings {
+
+    // Share of successful calls written to the call log (0.0 - 1.0); errors are always logged
+    private volatile double sampleRate;
+
+    // Full request/response bodies for this employee, null = off
+    private volatile Long fullBodyEmployeeId;
+
+    // Full request/response bodies for this share of all calls (0.0 - 1.0)
+    private volatile double fullBodyRate;
+
+    public FeignCallLogSettings(@Value("${employee.client.log.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = clampRate(sampleRate);
+    }
+
+    boolean sampleCall() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    boolean logFullBodies(Long employeeId) {
+        Long watched = fullBodyEmployeeId;
+        if (watched != null && watched.equals(employeeId)) {
+            return true;
+        }
+        return fullBodyRate > 0 && ThreadLocalRandom.current().nextDouble() < fullBodyRate;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = clampRate(sampleRate);
+    }
+
+    public Long getFullBodyEmployeeId() {
+        return fullBodyEmployeeId;
+    }
+
+    public void setFullBodyEmployeeId(Long fullBodyEmployeeId) {
+        this.fullBodyEmployeeId = fullBodyEmployeeId;
+    }
+
+    public double getFullBodyRate() {
+        return fullBodyRate;
+    }
+
+    public void setFullBodyRate(double fullBodyRate) {
+        this.fullBodyRate = clampRate(fullBodyRate);
+    }
+
+    public void resetFullBodies() {
+        this.fullBodyEmployeeId = null;
+        this.fullBodyRate = 0;
+    }
+
+    private static double clampRate(double rate) {
+        return Math.clamp(rate, 0.0, 1.0);
+    }
+}
@@ -11,9 +11,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FeignClientConfiguration {
 
+    /**
+     * BASIC only makes Feign call the logger; what is written is decided by the SampledFeignLogger
+     */
     @Bean
     public Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+        return Logger.Level.BASIC;
+    }
+
+    @Bean
+    public Logger feignLogger(FeignCallLogSettings feignCallLogSettings) {
+        return new SampledFeignLogger(feignCallLogSettings);
     }
 
     @Bean
@@ -0,0 +1,28 @@
+package de.szut.lf8_starter.integration.employee;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metriken für den Connection-Pool des Feign-HTTP-Clients (Apache HttpClient 5)
+ * Gauges {@code httpcomponents.httpclient.pool.*}: max/available/leased connections and pending requests.
+ * Many available and few pending connections mean keep-alive connections are reused.
+ */
+@Configuration
+public class FeignHttpClientMetricsConfiguration {
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        // The pool is created by Spring Cloud OpenFeign's auto-configuration, so look it up lazily
+        return registry -> connectionManager.ifAvailable(manager -> {
+            if (manager instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        });
+    }
+}
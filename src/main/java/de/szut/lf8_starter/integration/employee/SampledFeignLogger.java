@@ -0,0 +1,93 @@
+package de.szut.lf8_starter.integration.employee;
+
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Feign logger for the Employee Service: one structured line per call instead of FULL logging.
+ * <p>
+ * Successful calls are sampled ({@code employee.client.log.sample-rate}), errors and I/O failures are always logged.
+ * Bodies are only read and logged when switched on at runtime for one employee or a share of the traffic
+ * ({@link FeignCallLogSettings}); otherwise the response stream is passed through untouched.
+ */
+@Slf4j
+public class SampledFeignLogger extends feign.Logger {
+
+    private static final Pattern EMPLOYEE_ID = Pattern.compile("/employees/(\\d+)");
+
+    // Per-call decision taken in logRequest, needed again for the response (same thread in Feign)
+    private static final ThreadLocal<Boolean> FULL_BODIES = new ThreadLocal<>();
+
+    private final FeignCallLogSettings settings;
+
+    public SampledFeignLogger(FeignCallLogSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+        boolean fullBodies = settings.logFullBodies(employeeId(request.url()));
+        FULL_BODIES.set(fullBodies);
+        if (fullBodies) {
+            super.logRequest(configKey, Level.FULL, request);
+        }
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response, long elapsedTime)
+        throws IOException {
+        boolean fullBodies = Boolean.TRUE.equals(FULL_BODIES.get());
+        FULL_BODIES.remove();
+        if (fullBodies) {
+            return super.logAndRebufferResponse(configKey, Level.FULL, response, elapsedTime);
+        }
+
+        int status = response.status();
+        if (status >= 400 || settings.sampleCall()) {
+            Request request = response.request();
+            // Content length as announced by the server; "-" for chunked responses without length
+            Integer length = response.body() != null ? response.body().length() : Integer.valueOf(0);
+            Object bytes = length != null ? length : "-";
+            String message = "feign call method={} url={} status={} latencyMs={} bytes={}";
+            if (status >= 400) {
+                log.warn(message, request.httpMethod(), request.url(), status, elapsedTime, bytes);
+            } else {
+                log.info(message, request.httpMethod(), request.url(), status, elapsedTime, bytes);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        FULL_BODIES.remove();
+        log.warn("feign call failed method={} error={} message=\"{}\" latencyMs={}",
+            configKey, ioe.getClass().getSimpleName(), ioe.getMessage(), elapsedTime);
+        return ioe;
+    }
+
+    @Override
+    protected void logRetry(String configKey, Level logLevel) {
+        log.info("feign call retry method={}", configKey);
+    }
+
+    /**
+     * Output of the full-body mode (headers and bodies, formatted by feign.Logger)
+     */
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        if (log.isInfoEnabled()) {
+            log.info(methodTag(configKey) + String.format(format, args));
+        }
+    }
+
+    private static Long employeeId(String url) {
+        Matcher matcher = EMPLOYEE_ID.matcher(url);
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
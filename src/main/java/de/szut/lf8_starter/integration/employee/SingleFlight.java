@@ -0,0 +1,73 @@
+package de.szut.lf8_starter.integration.employee;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-flight deduplication of remote calls: concurrent callers asking for the same key
+ * share the one outstanding call instead of issuing their own.
+ * Nothing is kept once the call has finished - that is the job of the cache in front.
+ * <p>
+ * Metric {@code employee.lookup.singleflight} counts calls per {@code operation},
+ * {@code result=executed} for calls that went remote and {@code result=coalesced} for callers that joined one.
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.executed = counter(meterRegistry, operation, "executed");
+        this.coalesced = counter(meterRegistry, operation, "coalesced");
+    }
+
+    V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = call.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // Waiters see the same exception as the caller that executed the call
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String operation, String result) {
+        return Counter.builder("employee.lookup.singleflight")
+            .description("Employee Service lookups, executed remotely or coalesced into a running call")
+            .tag("operation", operation)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,164 @@
+package de.szut.lf8_starter.integration.employee;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsResponseDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Last tier of the employee lookups: the last successfully loaded data, used by the breaker fallbacks.
+ * <p>
+ * Every successful lookup is remembered (bounded, {@code employee.last-known.*}). While the
+ * {@code employeeService} breaker is open, the fallbacks answer from here instead of failing; such a
+ * response is marked stale ({@link EmployeeRequestContext#markStale()}, {@code Warning} header via
+ * {@link StaleResponseAdvice}). When the breaker goes half-open, the employees served stale are
+ * reloaded in the background through the breaker, so these calls also serve as its trial calls.
+ */
+@Component
+@Slf4j
+public class StaleEmployeeFallback {
+
+    private final Cache<Long, EmployeeDto> employees;
+    private final Cache<Long, EmployeeQualificationsResponseDto> qualifications;
+    private final EmployeeLookupCache employeeLookupCache;
+    private final EmployeeRequestContext employeeRequestContext;
+    private final CircuitBreaker circuitBreaker;
+    private final Executor executor;
+    private final Counter staleEmployees;
+    private final Counter staleQualifications;
+    private final Set<Long> servedStale = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+
+    @Autowired
+    public StaleEmployeeFallback(EmployeeLookupCache employeeLookupCache,
+                                 EmployeeRequestContext employeeRequestContext,
+                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${employee.last-known.max-size:10000}") long maxSize,
+                                 @Value("${employee.last-known.max-age:24h}") Duration maxAge) {
+        this(employeeLookupCache, employeeRequestContext, circuitBreakerRegistry, meterRegistry, maxSize, maxAge,
+            task -> Thread.ofVirtual().name("employee-revalidate").start(task));
+    }
+
+    StaleEmployeeFallback(EmployeeLookupCache employeeLookupCache, EmployeeRequestContext employeeRequestContext,
+                          CircuitBreakerRegistry circuitBreakerRegistry, MeterRegistry meterRegistry,
+                          long maxSize, Duration maxAge, Executor executor) {
+        this.employeeLookupCache = employeeLookupCache;
+        this.employeeRequestContext = employeeRequestContext;
+        this.executor = executor;
+        this.employees = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(maxAge).build();
+        this.qualifications = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(maxAge).build();
+        this.staleEmployees = Counter.builder("employee.lookup.stale").tag("operation", "getEmployee")
+            .description("Lookups answered with last known data while the employee service breaker was open")
+            .register(meterRegistry);
+        this.staleQualifications = Counter.builder("employee.lookup.stale").tag("operation", "getQualifications")
+            .description("Lookups answered with last known data while the employee service breaker was open")
+            .register(meterRegistry);
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("employeeService");
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.HALF_OPEN) {
+                executor.execute(this::revalidate);
+            }
+        });
+    }
+
+    public void rememberEmployee(EmployeeDto employee) {
+        if (employee != null && employee.getEmployeeId() != null) {
+            employees.put(employee.getEmployeeId(), employee);
+        }
+    }
+
+    public void rememberQualifications(EmployeeQualificationsResponseDto response) {
+        if (response != null && response.getEmployeeId() != null) {
+            qualifications.put(response.getEmployeeId(), response);
+        }
+    }
+
+    /**
+     * Last known employee details; marks the current response stale if present
+     */
+    public Optional<EmployeeDto> staleEmployee(Long employeeId) {
+        Optional<EmployeeDto> employee = Optional.ofNullable(employees.getIfPresent(employeeId));
+        employee.ifPresent(e -> servedStale(employeeId, staleEmployees));
+        return employee;
+    }
+
+    /**
+     * Last known qualifications; marks the current response stale if present
+     */
+    public Optional<EmployeeQualificationsResponseDto> staleQualifications(Long employeeId) {
+        Optional<EmployeeQualificationsResponseDto> response = Optional.ofNullable(qualifications.getIfPresent(employeeId));
+        response.ifPresent(r -> servedStale(employeeId, staleQualifications));
+        return response;
+    }
+
+    public void invalidateAll() {
+        employees.invalidateAll();
+        qualifications.invalidateAll();
+        servedStale.clear();
+    }
+
+    private void servedStale(Long employeeId, Counter counter) {
+        counter.increment();
+        servedStale.add(employeeId);
+        employeeRequestContext.markStale();
+    }
+
+    /**
+     * Reloads the employees served stale. Stops at the first failure: the breaker is then open again
+     * and the next half-open transition continues.
+     */
+    void revalidate() {
+        if (!revalidating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (Long employeeId : new ArrayList<>(servedStale)) {
+                try {
+                    circuitBreaker.executeRunnable(() -> reload(employeeId));
+                    servedStale.remove(employeeId);
+                } catch (EmployeeNotFoundException e) {
+                    employees.invalidate(employeeId);
+                    qualifications.invalidate(employeeId);
+                    servedStale.remove(employeeId);
+                } catch (CallNotPermittedException e) {
+                    log.debug("Revalidation of stale employees stopped, breaker is {}", circuitBreaker.getState());
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("Revalidation of employee {} failed: {}", employeeId, e.getMessage());
+                    return;
+                }
+            }
+            log.info("Stale employee data revalidated");
+        } finally {
+            revalidating.set(false);
+        }
+    }
+
+    private void reload(Long employeeId) {
+        employeeLookupCache.invalidate(employeeId);
+        rememberEmployee(employeeLookupCache.getEmployee(employeeId));
+        if (qualifications.getIfPresent(employeeId) != null) {
+            rememberQualifications(employeeLookupCache.getQualifications(employeeId));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package de.szut.lf8_starter.integration.employee.replica;
+
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
+import de.szut.lf8_starter.integration.employee.EmployeeServiceClient;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsResponseDto;
+import de.szut.lf8_starter.integration.employee.dto.QualificationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Optional local replica of the Employee Service ({@code employee.replica.enabled}).
+ * <p>
+ * A scheduled sync mirrors the complete employee directory of the Employee Service: employee details
+ * from {@code GET /employees}, qualifications per employee. Qualifications are only fetched for new and
+ * changed directory entries and once they are older than {@code employee.replica.qualification-max-age};
+ * employees missing from the directory are removed. Searches over all employees (see
+ * {@link #findQualified}) therefore see every employee, not just the ones this instance looked up.
+ * <p>
+ * Lookups only answer while the last successful sync is younger than {@code employee.replica.max-age};
+ * otherwise (and when disabled) they return empty and the caller goes remote as before.
+ * <p>
+ * After every sync an in-memory index qualification -> active employees is rebuilt, so
+ * "who has qualification Q" is answered without touching the database.
+ */
+@Component
+@Slf4j
+public class EmployeeReplica {
+
+    private final ReplicatedEmployeeRepository repository;
+    private final EmployeeServiceClient employeeServiceClient;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final Duration qualificationMaxAge;
+    private final int batchSize;
+    private final Clock clock;
+    private volatile Instant lastSync;
+    private volatile Map<String, List<QualifiedEmployee>> qualificationIndex = Map.of();
+
+    public EmployeeReplica(ReplicatedEmployeeRepository repository,
+                           EmployeeServiceClient employeeServiceClient,
+                           @Value("${employee.replica.enabled:false}") boolean enabled,
+                           @Value("${employee.replica.max-age:1h}") Duration maxAge,
+                           @Value("${employee.replica.qualification-max-age:24h}") Duration qualificationMaxAge,
+                           @Value("${employee.batch.max-ids:100}") int batchSize) {
+        this(repository, employeeServiceClient, enabled, maxAge, qualificationMaxAge, batchSize, Clock.systemUTC());
+    }
+
+    EmployeeReplica(ReplicatedEmployeeRepository repository, EmployeeServiceClient employeeServiceClient,
+                    boolean enabled, Duration maxAge, Duration qualificationMaxAge, int batchSize, Clock clock) {
+        this.repository = repository;
+        this.employeeServiceClient = employeeServiceClient;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.qualificationMaxAge = qualificationMaxAge;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Employee details from the replica
+     * @return empty if disabled, not (yet) replicated or the replica is outdated
+     */
+    public Optional<EmployeeDto> findEmployee(Long employeeId) {
+        return find(employeeId).map(ReplicatedEmployeeEntity::toEmployeeDto);
+    }
+
+    /**
+     * Qualifications from the replica
+     * @return empty if disabled, not (yet) replicated or the replica is outdated
+     */
+    public Optional<EmployeeQualificationsResponseDto> findQualifications(Long employeeId) {
+        return find(employeeId).map(ReplicatedEmployeeEntity::toQualificationsDto);
+    }
+
+    private Optional<ReplicatedEmployeeEntity> find(Long employeeId) {
+        if (!isUsable()) {
+            return Optional.empty();
+        }
+        return repository.findById(employeeId);
+    }
+
+    /**
+     * Active employees holding the qualification (case-insensitive), valid at least through the given date
+     * @return empty if disabled or the replica is outdated
+     */
+    public Optional<List<QualifiedEmployee>> findQualified(String qualification, LocalDate validThrough) {
+        if (!isUsable()) {
+            return Optional.empty();
+        }
+        return Optional.of(qualificationIndex.getOrDefault(qualification.toLowerCase(Locale.ROOT), List.of()).stream()
+            .filter(q -> q.validUntil() == null || !q.validUntil().isBefore(validThrough))
+            .toList());
+    }
+
+    private boolean isUsable() {
+        Instant synced = lastSync;
+        return enabled && synced != null && synced.plus(maxAge).isAfter(clock.instant());
+    }
+
+    @Scheduled(initialDelayString = "${employee.replica.initial-delay:PT10S}",
+               fixedDelayString = "${employee.replica.sync-interval:PT5M}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            // Replica stays as it is; lookups stop answering once it is older than max-age
+            log.warn("Employee replica sync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Mirrors the employee directory: new and changed employees are written, vanished ones removed
+     * @return number of written and removed rows
+     */
+    public SyncResult sync() {
+        Instant now = clock.instant();
+        Instant qualificationCutoff = now.minus(qualificationMaxAge);
+        Map<Long, EmployeeDto> directory = employeeServiceClient.getAllEmployees().stream()
+            .collect(Collectors.toMap(EmployeeDto::getEmployeeId, Function.identity(), (a, b) -> a));
+        Set<Long> ids = new TreeSet<>(repository.findAllEmployeeIds());
+        ids.addAll(directory.keySet());
+
+        List<Long> all = new ArrayList<>(ids);
+        int written = 0;
+        int removed = 0;
+        for (int from = 0; from < all.size(); from += batchSize) {
+            List<Long> chunk = all.subList(from, Math.min(from + batchSize, all.size()));
+            Map<Long, ReplicatedEmployeeEntity> local = repository.findAllById(chunk).stream()
+                .collect(Collectors.toMap(ReplicatedEmployeeEntity::getEmployeeId, Function.identity()));
+
+            List<ReplicatedEmployeeEntity> changed = new ArrayList<>();
+            List<ReplicatedEmployeeEntity> gone = new ArrayList<>();
+            for (Long employeeId : chunk) {
+                EmployeeDto employee = directory.get(employeeId);
+                ReplicatedEmployeeEntity entity = local.get(employeeId);
+                if (employee == null) {
+                    if (entity != null) {
+                        gone.add(entity);
+                    }
+                    continue;
+                }
+                if (entity == null) {
+                    entity = new ReplicatedEmployeeEntity(employeeId);
+                }
+                if (entity.needsQualifications(employee, qualificationCutoff)) {
+                    entity.apply(employee, fetchQualifications(employeeId), now);
+                    changed.add(entity);
+                }
+            }
+            repository.saveAll(changed);
+            repository.deleteAll(gone);
+            written += changed.size();
+            removed += gone.size();
+        }
+
+        rebuildQualificationIndex();
+        lastSync = now;
+        log.info("Employee replica synced: {} employees checked, {} written, {} removed", all.size(), written, removed);
+        return new SyncResult(written, removed);
+    }
+
+    private void rebuildQualificationIndex() {
+        Map<String, List<QualifiedEmployee>> index = new HashMap<>();
+        for (ReplicatedEmployeeEntity entity : repository.findAllWithQualifications()) {
+            if (!"ACTIVE".equalsIgnoreCase(entity.getStatus())) {
+                continue;
+            }
+            EmployeeDto employee = entity.toEmployeeDto();
+            for (ReplicatedQualification qualification : entity.getQualifications()) {
+                if (qualification.getName() != null) {
+                    index.computeIfAbsent(qualification.getName().toLowerCase(Locale.ROOT), name -> new ArrayList<>())
+                        .add(new QualifiedEmployee(employee, qualification.getLevel(), qualification.getValidUntil()));
+                }
+            }
+        }
+        index.replaceAll((name, employees) -> List.copyOf(employees));
+        qualificationIndex = index;
+    }
+
+    private List<QualificationDto> fetchQualifications(Long employeeId) {
+        try {
+            List<QualificationDto> qualifications = employeeServiceClient.getQualifications(employeeId).getQualifications();
+            return qualifications != null ? qualifications : List.of();
+        } catch (EmployeeNotFoundException e) {
+            return List.of();
+        }
+    }
+
+    public record SyncResult(int written, int removed) {
+    }
+
+    public record QualifiedEmployee(EmployeeDto employee, String level, LocalDate validUntil) {
+    }
+}
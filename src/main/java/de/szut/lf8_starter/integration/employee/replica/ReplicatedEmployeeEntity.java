@@ -0,0 +1,96 @@
+package de.szut.lf8_starter.integration.employee.replica;
+
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsResponseDto;
+import de.szut.lf8_starter.integration.employee.dto.QualificationDto;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Local copy of one employee of the Employee Service, including the qualifications.
+ * Written only by {@link EmployeeReplica#sync()}.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "employee_replica")
+public class ReplicatedEmployeeEntity {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "status")
+    private String status;
+
+    // When the qualifications were last fetched; they are not part of the employee directory
+    @Column(name = "qualifications_synced_at")
+    private Instant qualificationsSyncedAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "employee_replica_qualifications", joinColumns = @JoinColumn(name = "employee_id"))
+    @OrderColumn(name = "position")
+    private List<ReplicatedQualification> qualifications = new ArrayList<>();
+
+    public ReplicatedEmployeeEntity(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * Whether the qualifications have to be fetched again: new employee, changed directory entry,
+     * or qualifications last fetched before the cutoff
+     */
+    boolean needsQualifications(EmployeeDto employee, Instant cutoff) {
+        return qualificationsSyncedAt == null
+            || qualificationsSyncedAt.isBefore(cutoff)
+            || !Objects.equals(firstName, employee.getFirstName())
+            || !Objects.equals(lastName, employee.getLastName())
+            || !Objects.equals(email, employee.getEmail())
+            || !Objects.equals(status, employee.getStatus());
+    }
+
+    /**
+     * Takes over the remote state; the row has to be written afterwards (at least the sync time changed)
+     */
+    void apply(EmployeeDto employee, List<QualificationDto> remoteQualifications, Instant syncedAt) {
+        List<ReplicatedQualification> newQualifications = remoteQualifications.stream()
+            .map(q -> new ReplicatedQualification(q.getName(), q.getLevel(), q.getValidUntil()))
+            .toList();
+        firstName = employee.getFirstName();
+        lastName = employee.getLastName();
+        email = employee.getEmail();
+        status = employee.getStatus();
+        if (!newQualifications.equals(qualifications)) {
+            qualifications.clear();
+            qualifications.addAll(newQualifications);
+        }
+        qualificationsSyncedAt = syncedAt;
+    }
+
+    EmployeeDto toEmployeeDto() {
+        return new EmployeeDto(employeeId, firstName, lastName, email, status);
+    }
+
+    EmployeeQualificationsResponseDto toQualificationsDto() {
+        return new EmployeeQualificationsResponseDto(employeeId, qualifications.stream()
+            .map(q -> new QualificationDto(q.getName(), q.getLevel(), q.getValidUntil()))
+            .toList());
+    }
+}
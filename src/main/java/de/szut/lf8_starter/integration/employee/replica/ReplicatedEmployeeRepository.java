@@ -0,0 +1,16 @@
+package de.szut.lf8_starter.integration.employee.replica;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ReplicatedEmployeeRepository extends JpaRepository<ReplicatedEmployeeEntity, Long> {
+
+    @Query("SELECT e.employeeId FROM ReplicatedEmployeeEntity e")
+    List<Long> findAllEmployeeIds();
+
+    // Whole replica with qualifications in one query (source of the qualification index)
+    @Query("SELECT DISTINCT e FROM ReplicatedEmployeeEntity e LEFT JOIN FETCH e.qualifications")
+    List<ReplicatedEmployeeEntity> findAllWithQualifications();
+}
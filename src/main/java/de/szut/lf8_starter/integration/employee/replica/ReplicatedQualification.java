@@ -0,0 +1,30 @@
+package de.szut.lf8_starter.integration.employee.replica;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Qualification of a replicated employee
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReplicatedQualification {
+
+    @Column(name = "qualification_name")
+    private String name;
+
+    @Column(name = "qualification_level")
+    private String level;
+
+    @Column(name = "valid_until")
+    private LocalDate validUntil;
+}
@@ -0,0 +1,24 @@
+package de.szut.lf8_starter.project;
+
+import de.szut.lf8_starter.project.dto.ConflictingProjectDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of one requested assignment of a bulk assignment; conflictingProjects is only filled for TIME_CONFLICT
+ */
+@Getter
+@AllArgsConstructor
+public class AssignmentOutcome {
+    private final Long employeeId;
+    private final String qualification;
+    private final AssignmentStatus status;
+    private final String message;
+    private final List<ConflictingProjectDto> conflictingProjects;
+
+    static AssignmentOutcome of(Long employeeId, String qualification, AssignmentStatus status, String message) {
+        return new AssignmentOutcome(employeeId, qualification, status, message, List.of());
+    }
+}
@@ -0,0 +1,14 @@
+package de.szut.lf8_starter.project;
+
+/**
+ * Result of one employee in a bulk assignment
+ */
+public enum AssignmentStatus {
+    ASSIGNED,
+    ALREADY_ASSIGNED,
+    DUPLICATE_IN_REQUEST,
+    EMPLOYEE_NOT_FOUND,
+    NOT_QUALIFIED,
+    QUALIFICATION_EXPIRED,
+    TIME_CONFLICT
+}
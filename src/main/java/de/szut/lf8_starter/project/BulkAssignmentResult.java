@@ -0,0 +1,20 @@
+package de.szut.lf8_starter.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Result of a bulk assignment: the project and one outcome per requested employee, in request order
+ */
+@Getter
+@AllArgsConstructor
+public class BulkAssignmentResult {
+    private final ProjectEntity project;
+    private final List<AssignmentOutcome> outcomes;
+
+    public long assignedCount() {
+        return outcomes.stream().filter(o -> o.getStatus() == AssignmentStatus.ASSIGNED).count();
+    }
+}
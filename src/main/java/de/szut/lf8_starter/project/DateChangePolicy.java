@@ -0,0 +1,13 @@
+package de.szut.lf8_starter.project;
+
+/**
+ * What happens when moving a project's dates makes assigned employees overlap other projects
+ */
+public enum DateChangePolicy {
+    /** Refuse the update with 409 */
+    REJECT,
+    /** Save the update and report the conflicts */
+    WARN,
+    /** Save the update and remove the conflicting employees from the project */
+    UNASSIGN
+}
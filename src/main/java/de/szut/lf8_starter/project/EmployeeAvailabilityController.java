@@ -0,0 +1,114 @@
+package de.szut.lf8_starter.project;
+
+import de.szut.lf8_starter.project.dto.ApiErrorResponse;
+import de.szut.lf8_starter.project.dto.AvailableEmployeeDto;
+import de.szut.lf8_starter.project.dto.EmployeeAvailabilityDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@Tag(name = "Employee-Availability", description = "Find free employees with a given qualification")
+public class EmployeeAvailabilityController {
+
+    private final EmployeeAvailabilityService availabilityService;
+
+    public EmployeeAvailabilityController(EmployeeAvailabilityService availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+
+    @GetMapping(path = "/employees/availability", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Find employees who are free and qualified in a period",
+        description = """
+            Returns all active employees who hold the qualification (valid at least until `to`) and are not
+            assigned to any project overlapping [`from`, `to`].
+            
+            Answered from the local employee replica and the in-memory assignment index; requires
+            `employee.replica.enabled=true`. The replica mirrors the complete employee directory of the
+            Employee Service, so the result covers all employees as of the last sync
+            (`employee.replica.sync-interval`).
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Available employees, ordered by name",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EmployeeAvailabilityDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "qualification": "Java Developer",
+                      "from": "2025-03-01",
+                      "to": "2025-05-31",
+                      "employees": [
+                        {
+                          "employeeId": 2,
+                          "firstName": "Jane",
+                          "lastName": "Doe",
+                          "qualificationLevel": "Senior",
+                          "qualificationValidUntil": "2027-12-31"
+                        }
+                      ]
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid period ('from' after 'to') or missing parameter",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Employee replica disabled or outdated",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public EmployeeAvailabilityDto getAvailableEmployees(
+        @Parameter(description = "Required qualification", example = "Java Developer", required = true)
+        @RequestParam String qualification,
+        @Parameter(description = "Start of the period", example = "2025-03-01", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "End of the period", example = "2025-05-31", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<AvailableEmployeeDto> employees = this.availabilityService.findAvailable(qualification, from, to).stream()
+            .map(c -> new AvailableEmployeeDto(
+                c.employee().getEmployeeId(),
+                c.employee().getFirstName(),
+                c.employee().getLastName(),
+                c.level(),
+                c.validUntil()))
+            .toList();
+        return new EmployeeAvailabilityDto(qualification, from, to, employees);
+    }
+}
@@ -0,0 +1,65 @@
+package de.szut.lf8_starter.project;
+
+import de.szut.lf8_starter.integration.employee.replica.EmployeeReplica;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * "Who has qualification Q and is free from ... to ...": both sides come from in-memory indexes.
+ * Candidates from the qualification index of the {@link EmployeeReplica} (a copy of the whole employee
+ * directory), busy employees from the {@link EmployeeIntervalIndex} (one query over the assignments
+ * while the index is not built yet).
+ */
+@Service
+public class EmployeeAvailabilityService {
+
+    private final EmployeeReplica employeeReplica;
+    private final EmployeeIntervalIndex intervalIndex;
+    private final ProjectRepository projectRepository;
+
+    public EmployeeAvailabilityService(EmployeeReplica employeeReplica, EmployeeIntervalIndex intervalIndex,
+                                       ProjectRepository projectRepository) {
+        this.employeeReplica = employeeReplica;
+        this.intervalIndex = intervalIndex;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Active employees with a qualification valid through {@code to} and no project overlapping [from, to]
+     * @return the employees ordered by last name, first name
+     * @throws ResponseStatusException 400 for an invalid window, 503 without (up-to-date) employee replica
+     */
+    public List<EmployeeReplica.QualifiedEmployee> findAvailable(String qualification, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        List<EmployeeReplica.QualifiedEmployee> candidates = employeeReplica.findQualified(qualification, to)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Availability search needs the local employee replica (employee.replica.enabled), which is not available."));
+
+        List<EmployeeReplica.QualifiedEmployee> available;
+        if (intervalIndex.isReady()) {
+            available = candidates.stream()
+                .filter(c -> intervalIndex.findOverlappingProjectIds(c.employee().getEmployeeId(), from, to, null).isEmpty())
+                .toList();
+        } else {
+            Set<Long> busy = projectRepository.findBusyEmployeeIds(from, to);
+            available = candidates.stream()
+                .filter(c -> !busy.contains(c.employee().getEmployeeId()))
+                .toList();
+        }
+
+        return available.stream()
+            .sorted(Comparator.comparing((EmployeeReplica.QualifiedEmployee c) -> c.employee().getLastName(),
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(c -> c.employee().getFirstName(), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(c -> c.employee().getEmployeeId()))
+            .toList();
+    }
+}
@@ -0,0 +1,248 @@
+package de.szut.lf8_starter.project;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the assignment date ranges per employee.
+ * Answers "does employee X overlap [start, end]" without a database round trip.
+ * <p>
+ * Built from the database once the application is ready and kept up to date by {@link ProjectService};
+ * changes are applied after the surrounding transaction commits. As long as {@link #isReady()} is false
+ * (startup, or disabled via {@code project.conflict-index.enabled}) callers have to ask the database.
+ */
+@Component
+@Slf4j
+public class EmployeeIntervalIndex {
+
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final boolean enabled;
+
+    // Reads are lock-free: each employee maps to an immutable snapshot that is replaced on change
+    private final Map<Long, EmployeeIntervals> byEmployee = new ConcurrentHashMap<>();
+
+    // Reverse lookup to move all intervals of a project when its dates change; guarded by this
+    private final Map<Long, Set<Long>> employeesByProject = new HashMap<>();
+
+    // Changes arriving while the index is being rebuilt, replayed on the fresh data; guarded by this
+    private List<Runnable> pendingDuringRebuild;
+
+    private volatile boolean ready;
+
+    public EmployeeIntervalIndex(ProjectAssignmentRepository assignmentRepository,
+                                 @Value("${project.conflict-index.enabled:true}") boolean enabled) {
+        this.assignmentRepository = assignmentRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            log.info("Employee interval index disabled, time conflicts are checked in the database.");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * Reloads the index from the database. Changes that commit while the snapshot is read
+     * are recorded and replayed afterwards, so none of them is lost.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            ready = false;
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        List<ProjectAssignmentRepository.AssignmentPeriod> periods = assignmentRepository.findAllAssignmentPeriods();
+
+        synchronized (this) {
+            byEmployee.clear();
+            employeesByProject.clear();
+            for (ProjectAssignmentRepository.AssignmentPeriod period : periods) {
+                put(period.getEmployeeId(), period.getProjectId(), period.getStartDate(), period.getPlannedEndDate());
+            }
+            pendingDuringRebuild.forEach(Runnable::run);
+            pendingDuringRebuild = null;
+            ready = true;
+        }
+        log.info("Employee interval index built: {} assignments of {} employees.", periods.size(), byEmployee.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids of the projects of the employee whose [startDate, plannedEndDate] overlaps [start, end],
+     * ordered by start date. Same semantics as {@link ProjectRepository#findConflictingProjectsOfEmployee}.
+     */
+    public List<Long> findOverlappingProjectIds(Long employeeId, LocalDate start, LocalDate end, Long excludeProjectId) {
+        EmployeeIntervals intervals = byEmployee.get(employeeId);
+        if (intervals == null || start == null || end == null) {
+            return List.of();
+        }
+        return intervals.overlapping(start, end, excludeProjectId);
+    }
+
+    public void assignmentAdded(Long employeeId, Long projectId, LocalDate start, LocalDate end) {
+        afterCommit(() -> put(employeeId, projectId, start, end));
+    }
+
+    public void assignmentRemoved(Long employeeId, Long projectId) {
+        afterCommit(() -> remove(employeeId, projectId));
+    }
+
+    public void projectDatesChanged(Long projectId, LocalDate start, LocalDate end) {
+        afterCommit(() -> {
+            for (Long employeeId : List.copyOf(employeesByProject.getOrDefault(projectId, Set.of()))) {
+                put(employeeId, projectId, start, end);
+            }
+        });
+    }
+
+    public void projectRemoved(Long projectId) {
+        afterCommit(() -> {
+            for (Long employeeId : List.copyOf(employeesByProject.getOrDefault(projectId, Set.of()))) {
+                remove(employeeId, projectId);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A rolled back assignment must never show up as a conflict
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private synchronized void apply(Runnable change) {
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(change);
+        }
+        change.run();
+    }
+
+    private synchronized void put(Long employeeId, Long projectId, LocalDate start, LocalDate end) {
+        // Projects without a complete date range never conflict (the query does not match them either)
+        if (start == null || end == null) {
+            remove(employeeId, projectId);
+            return;
+        }
+        Interval interval = new Interval(projectId, start, end);
+        EmployeeIntervals current = byEmployee.get(employeeId);
+        byEmployee.put(employeeId, current == null ? EmployeeIntervals.of(interval) : current.with(interval));
+        employeesByProject.computeIfAbsent(projectId, id -> new HashSet<>()).add(employeeId);
+    }
+
+    private synchronized void remove(Long employeeId, Long projectId) {
+        byEmployee.computeIfPresent(employeeId, (id, current) -> current.without(projectId));
+        Set<Long> employees = employeesByProject.get(projectId);
+        if (employees != null) {
+            employees.remove(employeeId);
+            if (employees.isEmpty()) {
+                employeesByProject.remove(projectId);
+            }
+        }
+    }
+
+    record Interval(Long projectId, LocalDate start, LocalDate end) {
+    }
+
+    /**
+     * Intervals of one employee sorted by start date, plus the running maximum of the end dates.
+     * The running maximum lets a lookup stop as soon as no earlier interval can reach the query start.
+     */
+    static final class EmployeeIntervals {
+        private static final Comparator<Interval> BY_START =
+            Comparator.comparing(Interval::start).thenComparing(Interval::projectId);
+
+        private final Interval[] intervals;
+        private final LocalDate[] maxEndUpTo;
+
+        private EmployeeIntervals(Interval[] sorted) {
+            this.intervals = sorted;
+            this.maxEndUpTo = new LocalDate[sorted.length];
+            LocalDate max = null;
+            for (int i = 0; i < sorted.length; i++) {
+                if (max == null || sorted[i].end().isAfter(max)) {
+                    max = sorted[i].end();
+                }
+                maxEndUpTo[i] = max;
+            }
+        }
+
+        static EmployeeIntervals of(Interval interval) {
+            return new EmployeeIntervals(new Interval[]{interval});
+        }
+
+        EmployeeIntervals with(Interval interval) {
+            List<Interval> copy = new ArrayList<>(intervals.length + 1);
+            for (Interval existing : intervals) {
+                if (!existing.projectId().equals(interval.projectId())) {
+                    copy.add(existing);
+                }
+            }
+            copy.add(interval);
+            copy.sort(BY_START);
+            return new EmployeeIntervals(copy.toArray(Interval[]::new));
+        }
+
+        /** Returns null when nothing is left, which removes the map entry. */
+        EmployeeIntervals without(Long projectId) {
+            Interval[] remaining = Arrays.stream(intervals)
+                .filter(existing -> !existing.projectId().equals(projectId))
+                .toArray(Interval[]::new);
+            return remaining.length == 0 ? null : new EmployeeIntervals(remaining);
+        }
+
+        List<Long> overlapping(LocalDate start, LocalDate end, Long excludeProjectId) {
+            // Number of intervals starting on or before 'end' - only those can overlap
+            int low = 0;
+            int high = intervals.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (intervals[mid].start().isAfter(end)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+
+            List<Long> result = new ArrayList<>();
+            for (int i = low - 1; i >= 0 && !maxEndUpTo[i].isBefore(start); i--) {
+                Interval interval = intervals[i];
+                if (!interval.end().isBefore(start) && !interval.projectId().equals(excludeProjectId)) {
+                    result.add(interval.projectId());
+                }
+            }
+            return result.reversed();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package de.szut.lf8_starter.project;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Workload of one employee in one week (Monday to Sunday), maintained by {@link EmployeeWorkloadView}.
+ * Rows exist only for weeks with at least one project. Changes are written as atomic increments
+ * ({@link EmployeeWeekWorkloadRepository#addToWeek}), never read-modify-write.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "employee_week_workload",
+    // The primary key leads with employee_id; a week across all employees needs its own index
+    indexes = @Index(name = "idx_employee_week_workload_week_start", columnList = "week_start")
+)
+@IdClass(EmployeeWeekWorkloadEntity.Key.class)
+public class EmployeeWeekWorkloadEntity {
+
+    @Id
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Id
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    // Projects of the employee touching this week
+    @Column(name = "project_count", nullable = false)
+    private int projectCount;
+
+    // Workdays (Monday to Friday) of this week covered by those projects
+    @Column(name = "allocated_days", nullable = false)
+    private int allocatedDays;
+
+    public EmployeeWeekWorkloadEntity(Long employeeId, LocalDate weekStart) {
+        this.employeeId = employeeId;
+        this.weekStart = weekStart;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long employeeId;
+        private LocalDate weekStart;
+    }
+}
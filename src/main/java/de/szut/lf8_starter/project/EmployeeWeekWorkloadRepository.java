@@ -0,0 +1,42 @@
+package de.szut.lf8_starter.project;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeWeekWorkloadRepository
+    extends JpaRepository<EmployeeWeekWorkloadEntity, EmployeeWeekWorkloadEntity.Key> {
+
+    // Adds to one week in a single statement, creating the row if missing. Concurrent changes of the same
+    // week wait for each other's row lock instead of failing (PostgreSQL INSERT ... ON CONFLICT)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO employee_week_workload (employee_id, week_start, project_count, allocated_days) " +
+                   "VALUES (:employeeId, :weekStart, :projects, :days) " +
+                   "ON CONFLICT (employee_id, week_start) DO UPDATE SET " +
+                   "project_count = employee_week_workload.project_count + EXCLUDED.project_count, " +
+                   "allocated_days = employee_week_workload.allocated_days + EXCLUDED.allocated_days",
+           nativeQuery = true)
+    void addToWeek(@Param("employeeId") Long employeeId, @Param("weekStart") LocalDate weekStart,
+                   @Param("projects") int projects, @Param("days") int days);
+
+    // Rows exist only for weeks with at least one project
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmployeeWeekWorkloadEntity w " +
+           "WHERE w.employeeId = :employeeId AND w.weekStart IN :weekStarts AND w.projectCount <= 0")
+    void deleteEmptyWeeks(@Param("employeeId") Long employeeId, @Param("weekStarts") Collection<LocalDate> weekStarts);
+
+    // Heatmap: a range of weeks for many employees, served by the primary key
+    @Query("SELECT w FROM EmployeeWeekWorkloadEntity w " +
+           "WHERE w.employeeId IN :employeeIds AND w.weekStart BETWEEN :fromWeek AND :toWeek")
+    List<EmployeeWeekWorkloadEntity> findWeeks(@Param("employeeIds") Collection<Long> employeeIds,
+                                               @Param("fromWeek") LocalDate fromWeek,
+                                               @Param("toWeek") LocalDate toWeek);
+}
@@ -0,0 +1,92 @@
+package de.szut.lf8_starter.project;
+
+import de.szut.lf8_starter.project.dto.ApiErrorResponse;
+import de.szut.lf8_starter.project.dto.EmployeeWorkloadDto;
+import de.szut.lf8_starter.project.dto.WorkloadHeatmapDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@Tag(name = "Employee-Workload", description = "Weekly workload of employees")
+public class EmployeeWorkloadController {
+
+    private final EmployeeWorkloadView workloadView;
+
+    public EmployeeWorkloadController(EmployeeWorkloadView workloadView) {
+        this.workloadView = workloadView;
+    }
+
+    @GetMapping(path = "/employees/workload", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Weekly workload heatmap of several employees",
+        description = """
+            Returns, for every week (Monday to Sunday) touching [`from`, `to`], the number of projects and the
+            allocated workdays of each requested employee. Read from the precomputed workload table,
+            no projects are scanned.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Workload per employee and week",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = WorkloadHeatmapDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "weeks": ["2025-03-03", "2025-03-10", "2025-03-17"],
+                      "workdaysPerWeek": 5,
+                      "employees": [
+                        { "employeeId": 2, "projectCounts": [1, 1, 0], "allocatedDays": [5, 3, 0] },
+                        { "employeeId": 5, "projectCounts": [0, 1, 1], "allocatedDays": [0, 5, 5] }
+                      ]
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid period ('from' after 'to'), too many weeks or employees, or missing parameter",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public WorkloadHeatmapDto getWorkload(
+        @Parameter(description = "Employee IDs (comma separated)", example = "2,5", required = true)
+        @RequestParam List<Long> employeeIds,
+        @Parameter(description = "Start of the period", example = "2025-03-01", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "End of the period", example = "2025-03-21", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        EmployeeWorkloadView.WorkloadHeatmap heatmap = this.workloadView.readHeatmap(employeeIds, from, to);
+        List<EmployeeWorkloadDto> employees = heatmap.employees().stream()
+            .map(w -> new EmployeeWorkloadDto(w.employeeId(), w.projectCounts(), w.allocatedDays()))
+            .toList();
+        return new WorkloadHeatmapDto(heatmap.weeks(), EmployeeWorkloadView.WORKDAYS_PER_WEEK, employees);
+    }
+}
@@ -0,0 +1,204 @@
+package de.szut.lf8_starter.project;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized workload per employee and week ({@link EmployeeWeekWorkloadEntity}).
+ * <p>
+ * {@link ProjectService} reports every assignment change inside its transaction, so the table commits
+ * or rolls back together with the assignment. Every week is changed with an atomic upsert, so concurrent
+ * assignments of the same employee add up instead of failing. A change only touches the weeks it affects: adding or
+ * removing an assignment the weeks of the project, moving a project only the weeks at its edges.
+ * Filled from the assignments once at startup if the table is empty.
+ */
+@Component
+@Slf4j
+public class EmployeeWorkloadView {
+
+    static final int WORKDAYS_PER_WEEK = 5;
+
+    private final EmployeeWeekWorkloadRepository workloadRepository;
+    private final ProjectAssignmentRepository assignmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxEmployees;
+    private final int maxWeeks;
+
+    public EmployeeWorkloadView(EmployeeWeekWorkloadRepository workloadRepository,
+                                ProjectAssignmentRepository assignmentRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${project.workload.max-employees:200}") int maxEmployees,
+                                @Value("${project.workload.max-weeks:104}") int maxWeeks) {
+        this.workloadRepository = workloadRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxEmployees = maxEmployees;
+        this.maxWeeks = maxWeeks;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillIfEmpty() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (workloadRepository.count() > 0) {
+                return;
+            }
+            List<ProjectAssignmentRepository.AssignmentPeriod> periods = assignmentRepository.findAllAssignmentPeriods();
+            Map<EmployeeWeekWorkloadEntity.Key, EmployeeWeekWorkloadEntity> rows = new HashMap<>();
+            for (ProjectAssignmentRepository.AssignmentPeriod period : periods) {
+                weeks(period.getStartDate(), period.getPlannedEndDate(), 1).forEach((week, contribution) -> {
+                    EmployeeWeekWorkloadEntity row = rows.computeIfAbsent(
+                        new EmployeeWeekWorkloadEntity.Key(period.getEmployeeId(), week),
+                        key -> new EmployeeWeekWorkloadEntity(period.getEmployeeId(), week));
+                    add(row, contribution);
+                });
+            }
+            workloadRepository.saveAll(rows.values());
+            log.info("Employee workload filled: {} weeks from {} assignments.", rows.size(), periods.size());
+        });
+    }
+
+    public void assignmentAdded(Long employeeId, LocalDate start, LocalDate end) {
+        apply(employeeId, weeks(start, end, 1));
+    }
+
+    public void assignmentRemoved(Long employeeId, LocalDate start, LocalDate end) {
+        apply(employeeId, weeks(start, end, -1));
+    }
+
+    /**
+     * Moves the assignments of the given employees from the old to the new period.
+     * Weeks covered identically by both periods cancel out and are not written.
+     */
+    public void projectDatesChanged(Collection<Long> employeeIds, LocalDate oldStart, LocalDate oldEnd,
+                                    LocalDate newStart, LocalDate newEnd) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, Contribution> delta = weeks(newStart, newEnd, 1);
+        weeks(oldStart, oldEnd, -1).forEach((week, contribution) -> delta.merge(week, contribution, Contribution::plus));
+        delta.values().removeIf(Contribution::isZero);
+        if (delta.isEmpty()) {
+            return;
+        }
+        // Ascending ids for the same lock order as other changes of these employees
+        employeeIds.stream().sorted().forEach(employeeId -> apply(employeeId, delta));
+    }
+
+    /**
+     * Workload of the employees for every week from the week of {@code from} to the week of {@code to}
+     * @throws ResponseStatusException 400 for an invalid period or too many employees / weeks
+     */
+    @Transactional(readOnly = true)
+    public WorkloadHeatmap readHeatmap(List<Long> employeeIds, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(employeeIds));
+        if (ids.isEmpty() || ids.size() > maxEmployees) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Between 1 and " + maxEmployees + " employee IDs are required.");
+        }
+        LocalDate fromWeek = weekOf(from);
+        LocalDate toWeek = weekOf(to);
+        int weekCount = (int) ChronoUnit.WEEKS.between(fromWeek, toWeek) + 1;
+        if (weekCount > maxWeeks) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "At most " + maxWeeks + " weeks can be requested at once.");
+        }
+
+        List<LocalDate> weeks = new ArrayList<>(weekCount);
+        for (int i = 0; i < weekCount; i++) {
+            weeks.add(fromWeek.plusWeeks(i));
+        }
+        Map<Long, EmployeeWorkload> byEmployee = ids.stream()
+            .collect(Collectors.toMap(Function.identity(),
+                id -> new EmployeeWorkload(id, new int[weekCount], new int[weekCount])));
+        for (EmployeeWeekWorkloadEntity row : workloadRepository.findWeeks(ids, fromWeek, toWeek)) {
+            int index = (int) ChronoUnit.WEEKS.between(fromWeek, row.getWeekStart());
+            EmployeeWorkload workload = byEmployee.get(row.getEmployeeId());
+            workload.projectCounts()[index] = row.getProjectCount();
+            workload.allocatedDays()[index] = row.getAllocatedDays();
+        }
+        return new WorkloadHeatmap(weeks, ids.stream().map(byEmployee::get).toList());
+    }
+
+    private void apply(Long employeeId, Map<LocalDate, Contribution> delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        // Weeks in ascending order (delta is a TreeMap), so concurrent changes lock the rows in the same order
+        boolean decreased = false;
+        for (Map.Entry<LocalDate, Contribution> week : delta.entrySet()) {
+            workloadRepository.addToWeek(employeeId, week.getKey(), week.getValue().projects(), week.getValue().days());
+            decreased |= week.getValue().projects() < 0;
+        }
+        if (decreased) {
+            workloadRepository.deleteEmptyWeeks(employeeId, delta.keySet());
+        }
+    }
+
+    private static void add(EmployeeWeekWorkloadEntity row, Contribution contribution) {
+        row.setProjectCount(row.getProjectCount() + contribution.projects());
+        row.setAllocatedDays(row.getAllocatedDays() + contribution.days());
+    }
+
+    /**
+     * Contribution of one assignment over [start, end] to each week it touches, multiplied by sign.
+     * Projects without a complete date range count nowhere (like in the conflict checks).
+     */
+    static Map<LocalDate, Contribution> weeks(LocalDate start, LocalDate end, int sign) {
+        Map<LocalDate, Contribution> weeks = new TreeMap<>();
+        if (start == null || end == null || end.isBefore(start)) {
+            return weeks;
+        }
+        for (LocalDate week = weekOf(start); !week.isAfter(end); week = week.plusWeeks(1)) {
+            LocalDate first = start.isAfter(week) ? start : week;
+            LocalDate lastWorkday = week.plusDays(WORKDAYS_PER_WEEK - 1);
+            LocalDate last = end.isBefore(lastWorkday) ? end : lastWorkday;
+            int days = last.isBefore(first) ? 0 : (int) ChronoUnit.DAYS.between(first, last) + 1;
+            weeks.put(week, new Contribution(sign, sign * days));
+        }
+        return weeks;
+    }
+
+    static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    record Contribution(int projects, int days) {
+        Contribution plus(Contribution other) {
+            return new Contribution(projects + other.projects, days + other.days);
+        }
+
+        boolean isZero() {
+            return projects == 0 && days == 0;
+        }
+    }
+
+    public record EmployeeWorkload(Long employeeId, int[] projectCounts, int[] allocatedDays) {
+    }
+
+    public record WorkloadHeatmap(List<LocalDate> weeks, List<EmployeeWorkload> employees) {
+    }
+}
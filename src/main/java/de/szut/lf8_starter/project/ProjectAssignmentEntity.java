@@ -0,0 +1,48 @@
+package de.szut.lf8_starter.project;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * One employee assignment to a project: employee, qualification (role) and assignment date in a single row.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "project_assignments",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "employee_id"}),
+    // The unique constraint leads with project_id; lookups by employee need their own index
+    indexes = @Index(name = "idx_project_assignments_employee_id", columnList = "employee_id")
+)
+public class ProjectAssignmentEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private ProjectEntity project;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "qualification")
+    private String qualification;
+
+    @Column(name = "assigned_date")
+    private LocalDate assignedDate;
+
+    public ProjectAssignmentEntity(ProjectEntity project, Long employeeId, String qualification, LocalDate assignedDate) {
+        this.project = project;
+        this.employeeId = employeeId;
+        this.qualification = qualification;
+        this.assignedDate = assignedDate;
+    }
+}
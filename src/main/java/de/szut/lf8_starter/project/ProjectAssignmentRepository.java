@@ -0,0 +1,46 @@
+package de.szut.lf8_starter.project;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectAssignmentRepository extends JpaRepository<ProjectAssignmentEntity, Long> {
+
+    // Single assignment of an employee to a project (backed by the unique constraint)
+    Optional<ProjectAssignmentEntity> findByProjectIdAndEmployeeId(Long projectId, Long employeeId);
+
+    // Check if a project still has assignments
+    boolean existsByProjectId(Long projectId);
+
+    // Time conflicts of several employees in one query (bulk assignment); the assignment tells whose conflict it is
+    @Query("SELECT a FROM ProjectAssignmentEntity a JOIN FETCH a.project p " +
+           "WHERE a.employeeId IN :employeeIds AND p.id <> :excludeProjectId " +
+           "AND p.startDate <= :endDate AND p.plannedEndDate >= :startDate " +
+           "ORDER BY p.startDate, p.id")
+    List<ProjectAssignmentEntity> findConflictingAssignments(@Param("employeeIds") Collection<Long> employeeIds,
+                                                             @Param("excludeProjectId") Long excludeProjectId,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
+    // Date range of every assignment - source for rebuilding the EmployeeIntervalIndex
+    @Query("SELECT a.employeeId AS employeeId, p.id AS projectId, p.startDate AS startDate, " +
+           "p.plannedEndDate AS plannedEndDate FROM ProjectAssignmentEntity a JOIN a.project p")
+    List<AssignmentPeriod> findAllAssignmentPeriods();
+
+    interface AssignmentPeriod {
+        Long getEmployeeId();
+
+        Long getProjectId();
+
+        LocalDate getStartDate();
+
+        LocalDate getPlannedEndDate();
+    }
+}
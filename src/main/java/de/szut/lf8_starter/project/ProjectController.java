@@ -1,11 +1,25 @@
 package de.szut.lf8_starter.project;
 
 import de.szut.lf8_starter.project.dto.ApiErrorResponse;
+import de.szut.lf8_starter.project.dto.BulkAssignmentRequestDto;
+import de.szut.lf8_starter.project.dto.BulkAssignmentResponseDto;
+import de.szut.lf8_starter.project.dto.BulkAssignmentResultDto;
 import de.szut.lf8_starter.project.dto.EmployeeAssignmentDto;
 import de.szut.lf8_starter.project.dto.EmployeeAssignmentResponseDto;
 import de.szut.lf8_starter.project.dto.ProjectCreateDto;
 import de.szut.lf8_starter.project.dto.ProjectGetDto;
+import de.szut.lf8_starter.project.dto.ProjectImportResponseDto;
+import de.szut.lf8_starter.project.dto.ProjectPageDto;
 import de.szut.lf8_starter.project.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,10 +29,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -29,11 +57,16 @@ public class ProjectController {
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final ProjectImportService projectImportService;
 
-    public ProjectController(ProjectService projectService, ProjectMapper projectMapper, EmployeeService employeeService) {
+    public ProjectController(ProjectService projectService, ProjectMapper projectMapper, EmployeeService employeeService,
+                             ObjectMapper objectMapper, ProjectImportService projectImportService) {
         this.projectService = projectService;
         this.projectMapper = projectMapper;
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.projectImportService = projectImportService;
     }
 
     @PostMapping
@@ -112,6 +145,162 @@ public class ProjectController {
         return this.projectMapper.mapToGetDto(projectEntity);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Import several projects",
+        description = """
+            Creates projects from a JSON array of project objects (same fields as `POST /projects`),
+            or from NDJSON (one project object per line, `Content-Type: application/x-ndjson`).
+            
+            Every row is validated like a single create. Invalid rows are reported and skipped; all valid rows
+            are created in one transaction. At most 5000 rows per request (`project.import.max-rows`).
+            
+            **Note:** If the Employee Service is unavailable, the whole import fails with 502/503/504 and nothing is created.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import processed; see the result per row",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectImportResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "total": 2,
+                      "created": 1,
+                      "rejected": 1,
+                      "rows": [
+                        { "row": 1, "projectId": 1001, "designation": "Cloud Migration Project Alpha", "errors": [] },
+                        { "row": 2, "projectId": null, "designation": "Legacy Shutdown",
+                          "errors": ["Customer with ID 77 does not exist."] }
+                      ]
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Body is not a JSON array, empty or has too many rows",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden - insufficient permissions",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public ProjectImportResponseDto importProjects(InputStream body) throws IOException {
+        ObjectReader reader = this.objectMapper.readerFor(ProjectCreateDto.class);
+        List<ProjectImportService.ImportRow> rows = new ArrayList<>();
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Expected a JSON array of projects.");
+            }
+            // Element by element; reads one row more than allowed, so the service can reject the upload without reading it all
+            while (parser.nextToken() != JsonToken.END_ARRAY && rows.size() <= this.projectImportService.getMaxRows()) {
+                JsonNode project = parser.readValueAsTree();
+                rows.add(parseImportRow(reader, rows.size() + 1, project));
+            }
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        return this.projectImportService.importProjects(rows);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Import several projects (NDJSON)",
+        description = """
+            Same as the JSON variant, one project object per line (`Content-Type: application/x-ndjson`).
+            Blank lines are skipped; a line that is not valid JSON is reported as a rejected row.
+            At most 5000 rows per request (`project.import.max-rows`).
+            
+            **Note:** If the Employee Service is unavailable, the whole import fails with 502/503/504 and nothing is created.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import processed; see the result per row",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectImportResponseDto.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Body is empty or has too many rows",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden - insufficient permissions",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public ProjectImportResponseDto importProjectsNdjson(InputStream body) throws IOException {
+        ObjectReader reader = this.objectMapper.readerFor(ProjectCreateDto.class);
+        List<ProjectImportService.ImportRow> rows = new ArrayList<>();
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            // Reads one row more than allowed, so the service can reject the upload without reading it all
+            while ((line = lines.readLine()) != null && rows.size() <= this.projectImportService.getMaxRows()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    rows.add(parseImportRow(reader, lineNumber, this.objectMapper.readTree(line)));
+                } catch (JsonProcessingException e) {
+                    rows.add(ProjectImportService.ImportRow.unreadable(lineNumber, "Invalid JSON: " + e.getOriginalMessage()));
+                }
+            }
+        }
+        return this.projectImportService.importProjects(rows);
+    }
+
+    private static ProjectImportService.ImportRow parseImportRow(ObjectReader reader, int row, JsonNode project) {
+        try {
+            ProjectCreateDto dto = reader.readValue(project);
+            return dto != null
+                ? ProjectImportService.ImportRow.parsed(row, dto)
+                : ProjectImportService.ImportRow.unreadable(row, "Invalid project: null");
+        } catch (IOException e) {
+            String message = e instanceof JsonProcessingException jsonError ? jsonError.getOriginalMessage() : e.getMessage();
+            return ProjectImportService.ImportRow.unreadable(row, "Invalid project: " + message);
+        }
+    }
+
     @GetMapping
     @Operation(
         summary = "Get all projects",
@@ -159,6 +348,139 @@ public class ProjectController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Export all projects as NDJSON",
+        description = "Streams every project as newline-delimited JSON, one ProjectGetDto per line, ordered by id. "
+            + "Projects are read and written in chunks, so the response starts immediately and memory use "
+            + "does not grow with the size of the project table. Intended for reporting jobs."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Project stream",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = ProjectGetDto.class),
+                examples = @ExampleObject(value = """
+                    {"id":1001,"designation":"Cloud Migration Project Alpha","responsibleEmployeeId":1,"customerId":42,"customerContactPerson":"John Miller","comment":null,"startDate":"2025-01-15","plannedEndDate":"2025-06-30","actualEndDate":null,"employeeIds":[1,2,5]}
+                    {"id":1002,"designation":"ERP Rollout","responsibleEmployeeId":3,"customerId":7,"customerContactPerson":"Anna Schmidt","comment":null,"startDate":"2025-03-01","plannedEndDate":"2025-09-30","actualEndDate":null,"employeeIds":[]}
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        // Flushing is done once per chunk, not after every line
+        ObjectWriter writer = this.objectMapper.writerFor(ProjectGetDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(out)) {
+                // Lines are separated by '\n' below instead of Jackson's default root separator
+                generator.setRootValueSeparator(null);
+                this.projectService.exportAll(chunk -> {
+                    try {
+                        for (ProjectEntity project : chunk) {
+                            writer.writeValue(generator, this.projectMapper.mapToGetDto(project));
+                            generator.writeRaw('\n');
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    @GetMapping("/page")
+    @Operation(
+        summary = "Get projects page by page",
+        description = """
+            Keyset-paginated variant of the project list. Projects are ordered by ID and filtered on the server.
+            All filters are optional. Pass the returned `nextCursor` as `cursor` to fetch the next page;
+            a `null` cursor marks the last page.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of projects returned successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectPageDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "items": [
+                        {
+                          "id": 1001,
+                          "designation": "Cloud Migration Project Alpha",
+                          "responsibleEmployeeId": 1,
+                          "customerId": 42,
+                          "customerContactPerson": "John Miller",
+                          "comment": "Migration of legacy systems to AWS",
+                          "startDate": "2025-01-15",
+                          "plannedEndDate": "2025-06-30",
+                          "actualEndDate": null,
+                          "employeeIds": [1, 2, 5]
+                        }
+                      ],
+                      "nextCursor": "djE6MTAwMQ"
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or filter values",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public ProjectPageDto getProjectPage(
+        @Parameter(description = "Only projects of this customer", example = "42")
+        @RequestParam(required = false) Long customerId,
+        @Parameter(description = "Only projects with this responsible employee", example = "1")
+        @RequestParam(required = false) Long responsibleEmployeeId,
+        @Parameter(description = "Only projects running on or after this date", example = "2025-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @Parameter(description = "Only projects running on or before this date", example = "2025-12-31")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @Parameter(description = "Only projects with this status", example = "ACTIVE")
+        @RequestParam(required = false) ProjectStatus status,
+        @Parameter(description = "Continuation token from the previous page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size (max. " + ProjectService.MAX_PAGE_SIZE + ")", example = "50")
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        ProjectPage page = this.projectService.readPage(customerId, responsibleEmployeeId, from, to, status, cursor, limit);
+        List<ProjectGetDto> items = page.getProjects().stream()
+                .map(this.projectMapper::mapToGetDto)
+                .collect(Collectors.toList());
+        return new ProjectPageDto(items, page.getNextCursor());
+    }
+
     @GetMapping("/{projectId}")
     @Operation(
         summary = "Get a project by ID",
@@ -251,6 +573,14 @@ public class ProjectController {
                 schema = @Schema(implementation = ApiErrorResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "New period overlaps other projects of assigned employees (only with onConflict=REJECT)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized - missing or invalid JWT token",
@@ -263,11 +593,15 @@ public class ProjectController {
     public ProjectGetDto updateProject(
         @Parameter(description = "Unique project identifier", example = "1001", required = true)
         @PathVariable("projectId") Long id,
-        @RequestBody @Valid de.szut.lf8_starter.dto.UpdateProjectDTO updateDTO
+        @RequestBody @Valid de.szut.lf8_starter.dto.UpdateProjectDTO updateDTO,
+        @Parameter(description = "Handling of assigned employees that overlap other projects in the new period: "
+            + "REJECT (409), WARN (save and report) or UNASSIGN (save and remove them from the project)", example = "WARN")
+        @RequestParam(name = "onConflict", defaultValue = "WARN") DateChangePolicy onConflict
     ) {
-        // ...existing code...
-        ProjectEntity updatedProject = this.projectService.updateFromDTO(id, updateDTO);
-        return this.projectMapper.mapToGetDto(updatedProject);
+        ProjectUpdateResult result = this.projectService.updateFromDTO(id, updateDTO, onConflict);
+        ProjectGetDto dto = this.projectMapper.mapToGetDto(result.getProject());
+        dto.setDateChangeImpact(result.getImpact());
+        return dto;
     }
 
     @DeleteMapping("/{projectId}")
@@ -509,6 +843,124 @@ public class ProjectController {
         return new EmployeeAssignmentResponseDto(updated.getId(), updated.getDesignation(), request.getEmployeeId(), employeeName);
     }
 
+    @PostMapping("/{projectId}/employees/bulk")
+    @Operation(
+        summary = "Assign several employees to a project",
+        description = """
+            Assigns up to 100 employees to a project in one transaction.
+            
+            Every employee is checked like in `POST /projects/{projectId}/employees` (exists, qualification,
+            not expired, no time conflict), but a failed check does not abort the request: the response
+            contains one result per requested employee, in request order.
+            
+            **Statuses:** ASSIGNED, ALREADY_ASSIGNED, DUPLICATE_IN_REQUEST, EMPLOYEE_NOT_FOUND, NOT_QUALIFIED,
+            QUALIFICATION_EXPIRED, TIME_CONFLICT
+            
+            **Note:** If the Employee Service is unavailable, the whole request fails with 502/503/504 and nobody is assigned.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Request processed; see the result per employee",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BulkAssignmentResponseDto.class),
+                examples = @ExampleObject(value = """
+                    {
+                      "projectId": 1001,
+                      "projectName": "Cloud Migration Project Alpha",
+                      "assignedCount": 1,
+                      "results": [
+                        {
+                          "employeeId": 2,
+                          "employeeName": "Jane Doe",
+                          "qualification": "Java Developer",
+                          "status": "ASSIGNED",
+                          "message": null,
+                          "conflictingProjects": []
+                        },
+                        {
+                          "employeeId": 3,
+                          "employeeName": null,
+                          "qualification": "Java Developer",
+                          "status": "TIME_CONFLICT",
+                          "message": "Employee is already assigned to another project during this period.",
+                          "conflictingProjects": [
+                            {
+                              "projectId": 1002,
+                              "projectName": "Database Optimization Project",
+                              "startDate": "2025-02-01",
+                              "endDate": "2025-05-31"
+                            }
+                          ]
+                        }
+                      ]
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input data - empty list, more than 100 entries or invalid entry",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - missing or invalid JWT token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Project not found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Service Unavailable - Circuit Breaker is OPEN due to repeated failures",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiErrorResponse.class)
+            )
+        )
+    })
+    public BulkAssignmentResponseDto assignEmployeesToProject(
+        @Parameter(description = "Unique project identifier", example = "1001", required = true)
+        @PathVariable Long projectId,
+        @RequestBody @Valid BulkAssignmentRequestDto request
+    ) {
+        BulkAssignmentResult result = this.projectService.addEmployeesToProject(projectId, request.getAssignments());
+
+        // Names only for the assigned employees, with one batch lookup
+        List<Long> assignedIds = result.getOutcomes().stream()
+            .filter(outcome -> outcome.getStatus() == AssignmentStatus.ASSIGNED)
+            .map(AssignmentOutcome::getEmployeeId)
+            .toList();
+        Map<Long, String> names = assignedIds.isEmpty() ? Map.of() : this.employeeService.getEmployeeNames(assignedIds);
+
+        List<BulkAssignmentResultDto> results = result.getOutcomes().stream()
+            .map(outcome -> new BulkAssignmentResultDto(
+                outcome.getEmployeeId(),
+                names.get(outcome.getEmployeeId()),
+                outcome.getQualification(),
+                outcome.getStatus(),
+                outcome.getMessage(),
+                outcome.getConflictingProjects()))
+            .toList();
+
+        return new BulkAssignmentResponseDto(result.getProject().getId(), result.getProject().getDesignation(),
+            (int) result.assignedCount(), results);
+    }
+
     @DeleteMapping("/{projectId}/employees/{employeeId}")
     @Operation(
         summary = "Remove an employee from a project",
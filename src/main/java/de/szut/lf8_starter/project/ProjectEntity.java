@@ -7,21 +7,35 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 @Entity
-@Table(name = "projects")
+@Table(
+    name = "projects",
+    indexes = {
+        @Index(name = "idx_projects_customer_id", columnList = "customer_id"),
+        @Index(name = "idx_projects_responsible_employee_id", columnList = "responsible_employee_id")
+    }
+)
+@NamedEntityGraph(name = ProjectEntity.GRAPH_ASSIGNMENTS,
+    attributeNodes = @NamedAttributeNode("assignments"))
 public class ProjectEntity {
 
+    public static final String GRAPH_ASSIGNMENTS = "ProjectEntity.assignments";
+
+    // Pooled sequence instead of IDENTITY: ids are handed out from memory in blocks of 50,
+    // so Hibernate can batch the INSERTs (IDENTITY needs one round trip per row for the id)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -48,35 +62,8 @@ public class ProjectEntity {
     @Column(name = "actual_end_date")
     private LocalDate actualEndDate;
 
-    @ElementCollection
-    @CollectionTable(
-        name = "project_employee_assignments",
-        joinColumns = @JoinColumn(name = "project_id"),
-        uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "employee_id"})
-    )
-    @Column(name = "employee_id")
-    private Set<Long> employeeIds = new HashSet<>();
-
-    @ElementCollection
-    @CollectionTable(
-        name = "project_employee_qualifications",
-        joinColumns = @JoinColumn(name = "project_id"),
-        uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "employee_id"})
-    )
-    @MapKeyColumn(name = "employee_id")
-    @Column(name = "qualification")
-    private Map<Long, String> employeeQualifications = new HashMap<>();
-
-    // New: store the date when the employee was assigned to the project
-    @ElementCollection
-    @CollectionTable(
-        name = "project_employee_assigned_dates",
-        joinColumns = @JoinColumn(name = "project_id"),
-        uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "employee_id"})
-    )
-    @MapKeyColumn(name = "employee_id")
-    @Column(name = "assigned_date")
-    private Map<Long, LocalDate> employeeAssignedDates = new HashMap<>();
+    @OneToMany(mappedBy = "project")
+    private Set<ProjectAssignmentEntity> assignments = new HashSet<>();
 
     public ProjectEntity(String designation, Long responsibleEmployeeId, Long customerId,
                         String customerContactPerson, String comment, LocalDate startDate,
@@ -89,4 +76,22 @@ public class ProjectEntity {
         this.startDate = startDate;
         this.plannedEndDate = plannedEndDate;
     }
+
+    /**
+     * Ids of all employees assigned to this project (read-only view of the assignments)
+     */
+    public Set<Long> getEmployeeIds() {
+        return this.assignments.stream()
+            .map(ProjectAssignmentEntity::getEmployeeId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Assignment of the given employee, if the employee works on this project
+     */
+    public Optional<ProjectAssignmentEntity> findAssignment(Long employeeId) {
+        return this.assignments.stream()
+            .filter(a -> a.getEmployeeId().equals(employeeId))
+            .findFirst();
+    }
 }
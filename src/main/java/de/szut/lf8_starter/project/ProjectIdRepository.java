@@ -0,0 +1,17 @@
+package de.szut.lf8_starter.project;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Id-only reads with dynamic filters; implemented in {@link ProjectIdRepositoryImpl}
+ */
+public interface ProjectIdRepository {
+
+    /**
+     * Ids of the projects matching the filter, ascending, at most {@code limit}.
+     * Selects only the id column; the projects are loaded separately through the fetch-graph read.
+     */
+    List<Long> findIds(Specification<ProjectEntity> filter, int limit);
+}
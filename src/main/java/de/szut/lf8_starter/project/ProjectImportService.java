@@ -0,0 +1,196 @@
+package de.szut.lf8_starter.project;
+
+import de.szut.lf8_starter.project.dto.ProjectCreateDto;
+import de.szut.lf8_starter.project.dto.ProjectImportResponseDto;
+import de.szut.lf8_starter.project.dto.ProjectImportRowDto;
+import de.szut.lf8_starter.project.service.CustomerService;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bulk import of projects (migration from other tools).
+ * <p>
+ * Rows are validated like {@link ProjectService#create}, but an invalid row only rejects that row.
+ * Employees are checked once per distinct id through the chunked batch lookup instead of once per row,
+ * so a large upload costs a few remote calls and never floods the Employee Service.
+ * All valid rows are inserted in one transaction with JDBC batching (see project_seq and
+ * hibernate.jdbc.batch_size); the persistence context is flushed and cleared per batch.
+ */
+@Service
+@Slf4j
+public class ProjectImportService {
+
+    // Same as hibernate.jdbc.batch_size: one flush = one JDBC batch
+    private static final int FLUSH_INTERVAL = 50;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectMapper projectMapper;
+    private final EmployeeService employeeService;
+    private final CustomerService customerService;
+    private final Validator validator;
+    private final int maxRows;
+
+    public ProjectImportService(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                                ProjectMapper projectMapper, EmployeeService employeeService,
+                                CustomerService customerService, Validator validator,
+                                @Value("${project.import.max-rows:5000}") int maxRows) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.projectMapper = projectMapper;
+        this.employeeService = employeeService;
+        this.customerService = customerService;
+        this.validator = validator;
+        this.maxRows = maxRows;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Validates all rows and creates the valid ones
+     * @param rows the uploaded rows in upload order
+     * @return one result per row
+     * @throws ResponseStatusException 400 if there are no rows or more than project.import.max-rows
+     */
+    public ProjectImportResponseDto importProjects(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The import contains no projects.");
+        }
+        if (rows.size() > maxRows) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "The import contains more than " + maxRows + " projects.");
+        }
+
+        List<List<String>> errors = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            errors.add(localErrors(row));
+        }
+
+        // Remote checks: all distinct employees through the chunked batch lookup, customers once per id
+        Set<Long> employeeIds = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                employeeIds.add(rows.get(i).project().getResponsibleEmployeeId());
+            }
+        }
+        Set<Long> activeEmployees = employeeService.findActiveEmployeeIds(employeeIds);
+        Map<Long, Boolean> customers = new HashMap<>();
+
+        List<ProjectEntity> toCreate = new ArrayList<>();
+        List<Integer> createdRows = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> rowErrors = errors.get(i);
+            if (!rowErrors.isEmpty()) {
+                continue;
+            }
+            ProjectCreateDto project = rows.get(i).project();
+            if (!activeEmployees.contains(project.getResponsibleEmployeeId())) {
+                rowErrors.add("Employee with ID " + project.getResponsibleEmployeeId() + " does not exist.");
+            }
+            if (!customers.computeIfAbsent(project.getCustomerId(), customerService::customerExists)) {
+                rowErrors.add("Customer with ID " + project.getCustomerId() + " does not exist.");
+            }
+            if (rowErrors.isEmpty()) {
+                toCreate.add(projectMapper.mapCreateDtoToEntity(project));
+                createdRows.add(i);
+            }
+        }
+
+        persist(toCreate);
+
+        Map<Integer, Long> createdIds = new HashMap<>();
+        for (int n = 0; n < createdRows.size(); n++) {
+            createdIds.put(createdRows.get(n), toCreate.get(n).getId());
+        }
+        List<ProjectImportRowDto> results = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            results.add(new ProjectImportRowDto(row.row(), createdIds.get(i),
+                row.project() != null ? row.project().getDesignation() : null, errors.get(i)));
+        }
+
+        log.info("Project import: {} rows, {} created, {} rejected",
+                 rows.size(), toCreate.size(), rows.size() - toCreate.size());
+        return new ProjectImportResponseDto(rows.size(), toCreate.size(), rows.size() - toCreate.size(), results);
+    }
+
+    private void persist(List<ProjectEntity> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < projects.size(); i++) {
+                entityManager.persist(projects.get(i));
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+
+    /**
+     * Parse errors, bean validation and date checks of one row (no remote calls)
+     */
+    private List<String> localErrors(ImportRow row) {
+        List<String> errors = new ArrayList<>();
+        if (row.parseError() != null) {
+            errors.add(row.parseError());
+            return errors;
+        }
+        ProjectCreateDto project = row.project();
+        validator.validate(project).stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .forEach(errors::add);
+        if (!errors.isEmpty()) {
+            return errors;
+        }
+        if (project.getStartDate().isAfter(project.getPlannedEndDate())) {
+            errors.add("Start date cannot be after the planned end date");
+        }
+        if (project.getActualEndDate() != null && project.getActualEndDate().isBefore(project.getStartDate())) {
+            errors.add("Actual end date cannot be before the start date");
+        }
+        return errors;
+    }
+
+    /**
+     * One uploaded row: either the parsed project or the reason it could not be read
+     * @param row row number in the upload, starting at 1
+     */
+    public record ImportRow(int row, ProjectCreateDto project, String parseError) {
+
+        public ImportRow {
+            if ((project == null) == (parseError == null)) {
+                throw new IllegalArgumentException("Exactly one of project and parseError must be set");
+            }
+        }
+
+        public static ImportRow parsed(int row, ProjectCreateDto project) {
+            return new ImportRow(row, project, null);
+        }
+
+        public static ImportRow unreadable(int row, String parseError) {
+            return new ImportRow(row, null, Objects.requireNonNull(parseError));
+        }
+    }
+}
@@ -40,10 +40,10 @@ public class ProjectMapper {
 
     public ProjectEmployeesDto mapToProjectEmployeesDto(ProjectEntity entity) {
         List<ProjectEmployeesDto.EmployeeWithQualificationDto> employees =
-            entity.getEmployeeIds().stream()
-                .map(employeeId -> new ProjectEmployeesDto.EmployeeWithQualificationDto(
-                    employeeId,
-                    entity.getEmployeeQualifications().get(employeeId)
+            entity.getAssignments().stream()
+                .map(assignment -> new ProjectEmployeesDto.EmployeeWithQualificationDto(
+                    assignment.getEmployeeId(),
+                    assignment.getQualification()
                 ))
                 .collect(Collectors.toList());
 
@@ -63,7 +63,9 @@ public class ProjectMapper {
                     project.getDesignation(),
                     project.getStartDate(),
                     project.getActualEndDate() != null ? project.getActualEndDate() : project.getPlannedEndDate(),
-                    project.getEmployeeQualifications().get(employeeId)
+                    project.findAssignment(employeeId)
+                        .map(ProjectAssignmentEntity::getQualification)
+                        .orElse(null)
                 ))
                 .collect(Collectors.toList());
 
@@ -0,0 +1,16 @@
+package de.szut.lf8_starter.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One keyset page of projects and the opaque cursor for the next page ({@code null} on the last page)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectPage {
+    private final List<ProjectEntity> projects;
+    private final String nextCursor;
+}
@@ -1,16 +1,23 @@
 package de.szut.lf8_starter.project;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
+public interface ProjectRepository extends JpaRepository<ProjectEntity, Long>, JpaSpecificationExecutor<ProjectEntity>,
+        ProjectIdRepository {
 
     // Find by customer ID
     List<ProjectEntity> findByCustomerId(Long customerId);
@@ -27,9 +34,41 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
     // Find by customer, sorted by start date
     List<ProjectEntity> findByCustomerIdOrderByStartDateAsc(Long customerId);
 
-    @Query("SELECT p FROM ProjectEntity p JOIN p.employeeIds e WHERE e = :employeeId")
+    @Query("SELECT p FROM ProjectEntity p JOIN p.assignments a WHERE a.employeeId = :employeeId")
     List<ProjectEntity> findProjectsByEmployeeId(@Param("employeeId") Long employeeId);
 
     @Query("SELECT p FROM ProjectEntity p WHERE p.startDate <= :endDate AND p.plannedEndDate >= :startDate")
     List<ProjectEntity> findProjectsInTimeRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Employees with at least one project overlapping [startDate, endDate] (availability search without interval index)
+    @Query("SELECT DISTINCT a.employeeId FROM ProjectEntity p JOIN p.assignments a " +
+           "WHERE p.startDate <= :endDate AND p.plannedEndDate >= :startDate")
+    Set<Long> findBusyEmployeeIds(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Time conflicts of one employee: starts from that employee's assignments (employee_id index),
+    // so the cost depends on the employee's own workload, not on all overlapping projects
+    @Query("SELECT p FROM ProjectEntity p JOIN p.assignments a " +
+           "WHERE a.employeeId = :employeeId AND p.id <> :excludeProjectId " +
+           "AND p.startDate <= :endDate AND p.plannedEndDate >= :startDate " +
+           "ORDER BY p.startDate, p.id")
+    List<ProjectEntity> findConflictingProjectsOfEmployee(@Param("employeeId") Long employeeId,
+                                                          @Param("excludeProjectId") Long excludeProjectId,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
+    // Project ids only - anchor for the fetch-graph read path below
+    @Query("SELECT p.id FROM ProjectEntity p")
+    List<Long> findAllIds(Sort sort);
+
+    // Keyset step over the primary key, used by the streaming export
+    @Query("SELECT p.id FROM ProjectEntity p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT p.id FROM ProjectEntity p JOIN p.assignments a WHERE a.employeeId = :employeeId ORDER BY p.id")
+    List<Long> findProjectIdsByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Fetch-graph read: initializes the assignments of a page of projects in the same query
+    @EntityGraph(ProjectEntity.GRAPH_ASSIGNMENTS)
+    @Query("SELECT p FROM ProjectEntity p WHERE p.id IN :ids")
+    List<ProjectEntity> findWithAssignmentsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,33 +2,78 @@ package de.szut.lf8_starter.project;
 
 import de.szut.lf8_starter.exceptionHandling.*;
 import de.szut.lf8_starter.project.dto.ConflictingProjectDto;
+import de.szut.lf8_starter.project.dto.DateChangeImpactDto;
+import de.szut.lf8_starter.project.dto.EmployeeConflictDto;
+import de.szut.lf8_starter.project.dto.EmployeeAssignmentDto;
 import de.szut.lf8_starter.project.dto.EmployeeProjectsDto;
 import de.szut.lf8_starter.project.dto.ProjectEmployeesDto;
 import de.szut.lf8_starter.project.service.CustomerService;
 import de.szut.lf8_starter.project.service.EmployeeService;
+import de.szut.lf8_starter.project.service.ValidationStage;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static de.szut.lf8_starter.project.ProjectMapper.getEmployeeProjectsDto;
 
 @Service
 public class ProjectService {
+    // Max. number of ids per IN-list when loading projects with their assignments
+    private static final int FETCH_PAGE_SIZE = 500;
+
+    // Upper bound for one page of the keyset-paginated project list
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final String CURSOR_PREFIX = "v1:";
+
+    // Number of projects loaded per round trip by the streaming export
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final ProjectRepository repository;
+    private final ProjectAssignmentRepository assignmentRepository;
     private final EmployeeService employeeService;
     private final CustomerService customerService;
-
-    public ProjectService(ProjectRepository repository, EmployeeService employeeService,
-                         CustomerService customerService) {
+    private final EmployeeIntervalIndex intervalIndex;
+    private final EmployeeWorkloadView workloadView;
+    private final EntityManager entityManager;
+
+    public ProjectService(ProjectRepository repository, ProjectAssignmentRepository assignmentRepository,
+                         EmployeeService employeeService, CustomerService customerService,
+                         EmployeeIntervalIndex intervalIndex, EmployeeWorkloadView workloadView,
+                         EntityManager entityManager) {
         this.repository = repository;
+        this.assignmentRepository = assignmentRepository;
         this.employeeService = employeeService;
         this.customerService = customerService;
+        this.intervalIndex = intervalIndex;
+        this.workloadView = workloadView;
+        this.entityManager = entityManager;
     }
 
     public ProjectEntity create(ProjectEntity entity) {
@@ -37,8 +82,83 @@ public class ProjectService {
         return this.repository.save(entity);
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectEntity> readAll() {
-        return this.repository.findAll();
+        return readWithAssignments(this.repository.findAllIds(Sort.by("id")));
+    }
+
+    /**
+     * Returns one keyset page of projects ordered by id, filtered on the database.
+     * All filter arguments are optional; the cursor is the nextCursor of the previous page.
+     */
+    @Transactional(readOnly = true)
+    public ProjectPage readPage(Long customerId, Long responsibleEmployeeId, LocalDate from, LocalDate to,
+                                ProjectStatus status, String cursor, int limit) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        Specification<ProjectEntity> filter = Specification.allOf(
+            ProjectSpecifications.idGreaterThan(decodeCursor(cursor)),
+            ProjectSpecifications.hasCustomerId(customerId),
+            ProjectSpecifications.hasResponsibleEmployeeId(responsibleEmployeeId),
+            ProjectSpecifications.overlaps(from, to),
+            ProjectSpecifications.hasStatus(status, LocalDate.now())
+        );
+
+        // Ids only, one more than requested to know whether another page follows
+        List<Long> ids = this.repository.findIds(filter, pageSize + 1);
+
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        String nextCursor = hasMore ? encodeCursor(pageIds.getLast()) : null;
+
+        return new ProjectPage(readWithAssignments(pageIds), nextCursor);
+    }
+
+    /**
+     * Walks all projects in id order and hands them to the sink one chunk at a time.
+     * The streaming response runs with the request's EntityManager bound (open-in-view),
+     * so the persistence context is cleared after every chunk; otherwise every exported
+     * project and assignment would stay managed until the response is complete.
+     */
+    public void exportAll(Consumer<List<ProjectEntity>> sink) {
+        Long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = this.repository.findIdsAfter(afterId, Limit.of(EXPORT_CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                return;
+            }
+            sink.accept(readWithAssignments(ids));
+            this.entityManager.clear();
+            afterId = ids.getLast();
+        } while (ids.size() == EXPORT_CHUNK_SIZE);
+    }
+
+    /**
+     * Loads the given projects together with their assignments.
+     * Costs one query per page of ids instead of one lazy load per project.
+     * The result keeps the order of the given ids.
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectEntity> readWithAssignments(List<Long> ids) {
+        List<ProjectEntity> projects = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += FETCH_PAGE_SIZE) {
+            List<Long> page = ids.subList(from, Math.min(from + FETCH_PAGE_SIZE, ids.size()));
+
+            Map<Long, ProjectEntity> byId = this.repository.findWithAssignmentsByIdIn(page).stream()
+                .collect(Collectors.toMap(ProjectEntity::getId, Function.identity()));
+
+            for (Long id : page) {
+                ProjectEntity project = byId.get(id);
+                if (project != null) {
+                    projects.add(project);
+                }
+            }
+        }
+        return projects;
     }
 
     public ProjectEntity readById(Long id) {
@@ -54,31 +174,38 @@ public class ProjectService {
         readById(entity.getId());
         // Validate before update
         validateProject(entity);
-        return this.repository.save(entity);
+        ProjectEntity saved = this.repository.save(entity);
+        this.intervalIndex.projectDatesChanged(saved.getId(), saved.getStartDate(), saved.getPlannedEndDate());
+        return saved;
     }
 
     public void delete(ProjectEntity entity) {
-        this.repository.delete(entity);
+        deleteUnassigned(entity);
     }
 
     public void deleteById(Long id) {
-        ProjectEntity project = readById(id);
+        deleteUnassigned(readById(id));
+    }
 
+    // Assignments are separate rows that reference the project, so they are not deleted along with it
+    private void deleteUnassigned(ProjectEntity project) {
         // Check dependencies: no employees should be assigned
-        if (project.getEmployeeIds() != null && !project.getEmployeeIds().isEmpty()) {
+        if (this.assignmentRepository.existsByProjectId(project.getId())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT,
                 "Project still has employee assignments and cannot be deleted.");
         }
 
         this.repository.delete(project);
+        this.intervalIndex.projectRemoved(project.getId());
     }
 
     public List<ProjectEntity> findByResponsibleEmployeeId(Long employeeId) {
         return this.repository.findByResponsibleEmployeeId(employeeId);
     }
 
+    @Transactional(readOnly = true)
     public List<ProjectEntity> findProjectsByEmployeeId(Long employeeId) {
-        return this.repository.findProjectsByEmployeeId(employeeId);
+        return readWithAssignments(this.repository.findProjectIdsByEmployeeId(employeeId));
     }
 
     public List<ProjectEntity> findProjectsInTimeRange(LocalDate startDate, LocalDate endDate) {
@@ -88,80 +215,183 @@ public class ProjectService {
     /**
      * Adds an employee with a specific qualification to a project
      */
+    @Transactional
     public ProjectEntity addEmployeeToProject(Long projectId, Long employeeId, String qualification) {
         ProjectEntity project = readById(projectId);
 
         // Check for existing assignment before further validations
-        if (project.getEmployeeIds() != null && project.getEmployeeIds().contains(employeeId)) {
-            LocalDate assigned = project.getEmployeeAssignedDates() != null ? project.getEmployeeAssignedDates().get(employeeId) : null;
-            String role = project.getEmployeeQualifications() != null ? project.getEmployeeQualifications().get(employeeId) : null;
-            throw new DuplicateAssignmentException(projectId, employeeId, assigned, role);
+        Optional<ProjectAssignmentEntity> existing = this.assignmentRepository.findByProjectIdAndEmployeeId(projectId, employeeId);
+        if (existing.isPresent()) {
+            throw new DuplicateAssignmentException(projectId, employeeId,
+                existing.get().getAssignedDate(), existing.get().getQualification());
         }
 
+        // Both remote checks run concurrently; "not found" wins over qualification errors as before
+        ValidationStage.Check<Boolean> exists = ValidationStage.fork(() -> employeeService.employeeExists(employeeId));
+        ValidationStage.Check<Boolean> qualified = ValidationStage.fork(
+            () -> employeeService.employeeHasQualification(employeeId, qualification));
+
         // Validation: Employee exists
-        if (!employeeService.employeeExists(employeeId)) {
+        if (!exists.join()) {
             throw new EmployeeNotFoundException(employeeId);
         }
 
         // Validation: Employee has the required qualification
-        if (!employeeService.employeeHasQualification(employeeId, qualification)) {
+        if (!qualified.join()) {
             throw new EmployeeQualificationException(qualification);
         }
 
         // Validation: Check for time conflicts
-        List<ProjectEntity> conflicting = repository.findProjectsInTimeRange(project.getStartDate(), project.getPlannedEndDate())
-            .stream()
-            .filter(p -> !p.getId().equals(projectId) && p.getEmployeeIds().contains(employeeId))
-                .toList();
+        List<ProjectEntity> conflicting = findConflictingProjects(
+            employeeId, projectId, project.getStartDate(), project.getPlannedEndDate());
 
         if (!conflicting.isEmpty()) {
             DateTimeFormatter df = DateTimeFormatter.ISO_LOCAL_DATE;
-            List<ConflictingProjectDto> conflictingDtos = conflicting.stream()
-                .map(p -> new ConflictingProjectDto(p.getId(), p.getDesignation(), p.getStartDate(), p.getActualEndDate() != null ? p.getActualEndDate() : p.getPlannedEndDate()))
-                .collect(Collectors.toList());
+            List<ConflictingProjectDto> conflictingDtos = toConflictingProjectDtos(conflicting);
 
             String firstStart = conflictingDtos.getFirst().getStartDate().format(df);
             String firstEnd = conflictingDtos.getFirst().getEndDate().format(df);
             throw new TimeConflictException(firstStart, firstEnd, conflictingDtos);
         }
 
-        // Add employee
-        if (project.getEmployeeIds() == null) {
-            project.setEmployeeIds(new java.util.HashSet<>());
+        // Add employee: a single INSERT, assigned date is today
+        ProjectAssignmentEntity assignment = this.assignmentRepository.save(
+            new ProjectAssignmentEntity(project, employeeId, qualification, LocalDate.now()));
+        this.intervalIndex.assignmentAdded(employeeId, projectId, project.getStartDate(), project.getPlannedEndDate());
+        this.workloadView.assignmentAdded(employeeId, project.getStartDate(), project.getPlannedEndDate());
+
+        // Keep an already loaded collection in sync without loading it just for this
+        if (Hibernate.isInitialized(project.getAssignments())) {
+            project.getAssignments().add(assignment);
+        }
+        return project;
+    }
+
+    /**
+     * Assigns several employees to a project in one transaction.
+     * All remote checks run concurrently and the time conflicts of all employees are determined at once;
+     * employees failing a check are reported instead of aborting the request.
+     * @return the project and one outcome per requested assignment, in request order
+     */
+    @Transactional
+    public BulkAssignmentResult addEmployeesToProject(Long projectId, List<EmployeeAssignmentDto> requests) {
+        ProjectEntity project = readById(projectId);
+        Set<Long> alreadyAssigned = project.getEmployeeIds();
+
+        AssignmentOutcome[] outcomes = new AssignmentOutcome[requests.size()];
+        Map<Integer, ValidationStage.Check<Boolean>> exists = new LinkedHashMap<>();
+        Map<Integer, ValidationStage.Check<Boolean>> qualified = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EmployeeAssignmentDto request = requests.get(i);
+            Long employeeId = request.getEmployeeId();
+            if (!seen.add(employeeId)) {
+                outcomes[i] = AssignmentOutcome.of(employeeId, request.getQualification(),
+                    AssignmentStatus.DUPLICATE_IN_REQUEST, "Employee is listed more than once in this request.");
+            } else if (alreadyAssigned.contains(employeeId)) {
+                outcomes[i] = AssignmentOutcome.of(employeeId, request.getQualification(),
+                    AssignmentStatus.ALREADY_ASSIGNED, "Employee is already assigned to this project.");
+            } else {
+                exists.put(i, ValidationStage.fork(() -> employeeService.employeeExists(employeeId)));
+                qualified.put(i, ValidationStage.fork(
+                    () -> employeeService.employeeHasQualification(employeeId, request.getQualification())));
+            }
+        }
+
+        List<Integer> valid = new ArrayList<>();
+        for (Integer i : exists.keySet()) {
+            outcomes[i] = validationOutcome(requests.get(i), exists.get(i), qualified.get(i));
+            if (outcomes[i] == null) {
+                valid.add(i);
+            }
         }
-        if (project.getEmployeeQualifications() == null) {
-            project.setEmployeeQualifications(new java.util.HashMap<>());
+
+        Map<Long, List<ProjectEntity>> conflicts = findConflictingProjects(
+            valid.stream().map(i -> requests.get(i).getEmployeeId()).toList(),
+            projectId, project.getStartDate(), project.getPlannedEndDate());
+
+        List<ProjectAssignmentEntity> assignments = new ArrayList<>();
+        for (Integer i : valid) {
+            EmployeeAssignmentDto request = requests.get(i);
+            List<ProjectEntity> conflicting = conflicts.getOrDefault(request.getEmployeeId(), List.of());
+            if (!conflicting.isEmpty()) {
+                outcomes[i] = new AssignmentOutcome(request.getEmployeeId(), request.getQualification(),
+                    AssignmentStatus.TIME_CONFLICT, "Employee is already assigned to another project during this period.",
+                    toConflictingProjectDtos(conflicting));
+                continue;
+            }
+            assignments.add(new ProjectAssignmentEntity(project, request.getEmployeeId(), request.getQualification(), LocalDate.now()));
+            outcomes[i] = AssignmentOutcome.of(request.getEmployeeId(), request.getQualification(), AssignmentStatus.ASSIGNED, null);
         }
-        if (project.getEmployeeAssignedDates() == null) {
-            project.setEmployeeAssignedDates(new java.util.HashMap<>());
+
+        this.assignmentRepository.saveAll(assignments);
+        for (ProjectAssignmentEntity assignment : assignments) {
+            this.intervalIndex.assignmentAdded(assignment.getEmployeeId(), projectId, project.getStartDate(), project.getPlannedEndDate());
         }
+        // Ascending ids: concurrent bulk assignments lock the workload rows in the same order
+        assignments.stream()
+            .map(ProjectAssignmentEntity::getEmployeeId)
+            .sorted()
+            .forEach(employeeId -> this.workloadView.assignmentAdded(employeeId, project.getStartDate(), project.getPlannedEndDate()));
+        // The collection was loaded above for the duplicate check
+        project.getAssignments().addAll(assignments);
+        return new BulkAssignmentResult(project, List.of(outcomes));
+    }
 
-        project.getEmployeeIds().add(employeeId);
-        project.getEmployeeQualifications().put(employeeId, qualification);
-        // set assigned date to today
-        project.getEmployeeAssignedDates().put(employeeId, LocalDate.now());
+    /**
+     * Result of the remote checks of one requested assignment; null if both passed.
+     * Not found wins over qualification errors, as in addEmployeeToProject.
+     */
+    private static AssignmentOutcome validationOutcome(EmployeeAssignmentDto request,
+                                                       ValidationStage.Check<Boolean> exists,
+                                                       ValidationStage.Check<Boolean> qualified) {
+        Long employeeId = request.getEmployeeId();
+        String qualification = request.getQualification();
+        try {
+            if (!exists.join()) {
+                return AssignmentOutcome.of(employeeId, qualification, AssignmentStatus.EMPLOYEE_NOT_FOUND,
+                    new EmployeeNotFoundException(employeeId).getReason());
+            }
+        } catch (EmployeeNotFoundException e) {
+            return AssignmentOutcome.of(employeeId, qualification, AssignmentStatus.EMPLOYEE_NOT_FOUND, e.getReason());
+        }
 
-        return this.repository.save(project);
+        try {
+            if (!qualified.join()) {
+                return AssignmentOutcome.of(employeeId, qualification, AssignmentStatus.NOT_QUALIFIED,
+                    new EmployeeQualificationException(qualification).getReason());
+            }
+        } catch (QualificationExpiredException e) {
+            return AssignmentOutcome.of(employeeId, qualification, AssignmentStatus.QUALIFICATION_EXPIRED, e.getReason());
+        } catch (EmployeeQualificationException e) {
+            return AssignmentOutcome.of(employeeId, qualification, AssignmentStatus.NOT_QUALIFIED, e.getReason());
+        } catch (EmployeeNotFoundException e) {
+            return AssignmentOutcome.of(employeeId, qualification, AssignmentStatus.EMPLOYEE_NOT_FOUND, e.getReason());
+        }
+        return null;
     }
 
     /**
      * Removes an employee from a project
      */
+    @Transactional
     public ProjectEntity removeEmployeeFromProject(Long projectId, Long employeeId) {
         ProjectEntity project = readById(projectId);
 
         // Check if employee works on the project
-        if (project.getEmployeeIds() == null || !project.getEmployeeIds().contains(employeeId)) {
-            throw new ResourceNotFoundException("Mitarbeiter mit der Mitarbeiternummer " + employeeId +
-                " arbeitet in dem Projekt mit der Projekt-ID " + projectId + " nicht.");
-        }
+        ProjectAssignmentEntity assignment = this.assignmentRepository.findByProjectIdAndEmployeeId(projectId, employeeId)
+            .orElseThrow(() -> new ResourceNotFoundException("Mitarbeiter mit der Mitarbeiternummer " + employeeId +
+                " arbeitet in dem Projekt mit der Projekt-ID " + projectId + " nicht."));
 
-        // Remove employee
-        project.getEmployeeIds().remove(employeeId);
-        project.getEmployeeQualifications().remove(employeeId);
-        project.getEmployeeAssignedDates().remove(employeeId);
+        // Remove employee: a single DELETE
+        this.assignmentRepository.delete(assignment);
+        this.intervalIndex.assignmentRemoved(employeeId, projectId);
+        this.workloadView.assignmentRemoved(employeeId, project.getStartDate(), project.getPlannedEndDate());
 
-        return this.repository.save(project);
+        if (Hibernate.isInitialized(project.getAssignments())) {
+            project.getAssignments().remove(assignment);
+        }
+        return project;
     }
 
     /**
@@ -175,6 +405,7 @@ public class ProjectService {
     /**
      * Returns all projects of an employee
      */
+    @Transactional(readOnly = true)
     public EmployeeProjectsDto getEmployeeProjects(Long employeeId) {
         // Validation: Employee exists
         if (!employeeService.employeeExists(employeeId)) {
@@ -189,11 +420,15 @@ public class ProjectService {
      * Helper method for mapper access
      */
     private ProjectEmployeesDto mapToProjectEmployeesDto(ProjectEntity entity) {
+        // Names of all assigned employees with one batch lookup instead of one call per employee
+        Map<Long, String> names = employeeService.getEmployeeNames(entity.getEmployeeIds());
+
         List<ProjectEmployeesDto.EmployeeWithQualificationDto> employees =
-            entity.getEmployeeIds().stream()
-                .map(employeeId -> new ProjectEmployeesDto.EmployeeWithQualificationDto(
-                    employeeId,
-                    entity.getEmployeeQualifications().get(employeeId)
+            entity.getAssignments().stream()
+                .map(assignment -> new ProjectEmployeesDto.EmployeeWithQualificationDto(
+                    assignment.getEmployeeId(),
+                    names.get(assignment.getEmployeeId()),
+                    assignment.getQualification()
                 ))
                 .collect(Collectors.toList());
 
@@ -207,28 +442,116 @@ public class ProjectService {
         return getEmployeeProjectsDto(employeeId, projects);
     }
 
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Unknown cursor version");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
     /**
      * Checks if an employee is already busy in a specific time range
      */
     private boolean isEmployeeBusyInTimeRange(Long employeeId, LocalDate startDate, LocalDate endDate, Long excludeProjectId) {
-        List<ProjectEntity> projectsInTimeRange = repository.findProjectsInTimeRange(startDate, endDate);
+        return !findConflictingProjects(employeeId, excludeProjectId, startDate, endDate).isEmpty();
+    }
+
+    /**
+     * Projects of the employee overlapping [startDate, endDate], ordered by start date.
+     * Answered by the in-memory interval index once it is built; the database is only
+     * queried to load the conflicting projects for the error response.
+     */
+    private List<ProjectEntity> findConflictingProjects(Long employeeId, Long excludeProjectId,
+                                                        LocalDate startDate, LocalDate endDate) {
+        if (!this.intervalIndex.isReady()) {
+            return repository.findConflictingProjectsOfEmployee(employeeId, excludeProjectId, startDate, endDate);
+        }
+
+        List<Long> conflictingIds = this.intervalIndex.findOverlappingProjectIds(employeeId, startDate, endDate, excludeProjectId);
+        if (conflictingIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(conflictingIds).stream()
+            .sorted(Comparator.comparing(ProjectEntity::getStartDate).thenComparing(ProjectEntity::getId))
+            .toList();
+    }
+
+    /**
+     * Conflicting projects of several employees, by employee; employees without conflicts are missing.
+     * With the interval index the lookup is in memory and the projects are loaded in one query,
+     * otherwise a single query covers all employees.
+     */
+    private Map<Long, List<ProjectEntity>> findConflictingProjects(Collection<Long> employeeIds, Long excludeProjectId,
+                                                                   LocalDate startDate, LocalDate endDate) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<ProjectEntity>> conflicts = new HashMap<>();
+        if (!this.intervalIndex.isReady()) {
+            for (ProjectAssignmentEntity assignment : assignmentRepository.findConflictingAssignments(
+                    employeeIds, excludeProjectId, startDate, endDate)) {
+                conflicts.computeIfAbsent(assignment.getEmployeeId(), id -> new ArrayList<>()).add(assignment.getProject());
+            }
+            return conflicts;
+        }
 
-        return projectsInTimeRange.stream()
-            .filter(p -> !p.getId().equals(excludeProjectId)) // Exclude current project
-            .anyMatch(p -> p.getEmployeeIds().contains(employeeId));
+        Map<Long, List<Long>> conflictingIds = new HashMap<>();
+        for (Long employeeId : employeeIds) {
+            List<Long> ids = this.intervalIndex.findOverlappingProjectIds(employeeId, startDate, endDate, excludeProjectId);
+            if (!ids.isEmpty()) {
+                conflictingIds.put(employeeId, ids);
+            }
+        }
+        if (conflictingIds.isEmpty()) {
+            return conflicts;
+        }
+        Map<Long, ProjectEntity> projects = repository.findAllById(
+                conflictingIds.values().stream().flatMap(List::stream).distinct().toList()).stream()
+            .collect(Collectors.toMap(ProjectEntity::getId, Function.identity()));
+        conflictingIds.forEach((employeeId, ids) -> conflicts.put(employeeId, ids.stream()
+            .map(projects::get)
+            .filter(Objects::nonNull)
+            .sorted(Comparator.comparing(ProjectEntity::getStartDate).thenComparing(ProjectEntity::getId))
+            .toList()));
+        return conflicts;
+    }
+
+    private static List<ConflictingProjectDto> toConflictingProjectDtos(List<ProjectEntity> projects) {
+        return projects.stream()
+            .map(p -> new ConflictingProjectDto(p.getId(), p.getDesignation(), p.getStartDate(), p.getActualEndDate() != null ? p.getActualEndDate() : p.getPlannedEndDate()))
+            .collect(Collectors.toList());
     }
 
     /**
      * Validates a project before creating/updating
      */
     private void validateProject(ProjectEntity entity) {
+        // Remote checks run concurrently, results are evaluated in the original order
+        ValidationStage.Check<Boolean> employeeExists =
+            ValidationStage.fork(() -> employeeService.employeeExists(entity.getResponsibleEmployeeId()));
+        ValidationStage.Check<Boolean> customerExists =
+            ValidationStage.fork(() -> customerService.customerExists(entity.getCustomerId()));
+
         // Validation: Responsible employee exists
-        if (!employeeService.employeeExists(entity.getResponsibleEmployeeId())) {
+        if (!employeeExists.join()) {
             throw new ResourceNotFoundException("Employee with employee ID does not exist");
         }
 
         // Validation: Customer exists (dummy implementation)
-        if (!customerService.customerExists(entity.getCustomerId())) {
+        if (!customerExists.join()) {
             throw new ResourceNotFoundException("Customer with ID " + entity.getCustomerId() + " does not exist.");
         }
 
@@ -248,7 +571,18 @@ public class ProjectService {
     /**
      * Updates a project with new data from the DTO
      */
+    @Transactional
     public ProjectEntity updateFromDTO(Long id, de.szut.lf8_starter.dto.UpdateProjectDTO updateDTO) {
+        return updateFromDTO(id, updateDTO, DateChangePolicy.WARN).getProject();
+    }
+
+    /**
+     * Updates the project; if the new period makes assigned employees overlap other projects,
+     * the policy decides whether the update is rejected, saved with a report or saved without them.
+     */
+    @Transactional
+    public ProjectUpdateResult updateFromDTO(Long id, de.szut.lf8_starter.dto.UpdateProjectDTO updateDTO,
+                                             DateChangePolicy policy) {
         // Load project
         ProjectEntity projekt = readById(id);
 
@@ -260,6 +594,14 @@ public class ProjectService {
             );
         }
 
+        // Check assigned employees against the new period before anything is changed
+        DateChangeImpactDto impact = applyDateChangePolicy(projekt, updateDTO.getStartDate(),
+            updateDTO.getPlannedEndDate(), policy);
+
+        // Move the weekly workload of the remaining employees to the new period
+        this.workloadView.projectDatesChanged(projekt.getEmployeeIds(), projekt.getStartDate(), projekt.getPlannedEndDate(),
+            updateDTO.getStartDate(), updateDTO.getPlannedEndDate());
+
         // Update data
         projekt.setDesignation(updateDTO.getDesignation());
         projekt.setResponsibleEmployeeId(updateDTO.getResponsibleEmployeeId());
@@ -270,6 +612,75 @@ public class ProjectService {
         projekt.setPlannedEndDate(updateDTO.getPlannedEndDate());
 
         // Validate and save
-        return update(projekt);
+        return new ProjectUpdateResult(update(projekt), impact);
+    }
+
+    /**
+     * Conflicts of the assigned employees caused by moving the project to [newStart, newEnd].
+     * Only the days added to the period are checked: the previous period was already conflict-free
+     * for these employees, so a shrinking period needs no lookup at all.
+     */
+    private DateChangeImpactDto applyDateChangePolicy(ProjectEntity project, LocalDate newStart, LocalDate newEnd,
+                                                      DateChangePolicy policy) {
+        Set<Long> employeeIds = project.getEmployeeIds();
+        List<DateRange> addedRanges = addedRanges(project.getStartDate(), project.getPlannedEndDate(), newStart, newEnd);
+        if (employeeIds.isEmpty() || addedRanges.isEmpty()) {
+            return null;
+        }
+
+        // A project overlapping both added ranges is reported once
+        Map<Long, Map<Long, ProjectEntity>> conflicts = new TreeMap<>();
+        for (DateRange range : addedRanges) {
+            findConflictingProjects(employeeIds, project.getId(), range.start(), range.end())
+                .forEach((employeeId, projects) -> projects.forEach(p -> conflicts
+                    .computeIfAbsent(employeeId, k -> new LinkedHashMap<>())
+                    .putIfAbsent(p.getId(), p)));
+        }
+        if (conflicts.isEmpty()) {
+            return null;
+        }
+
+        List<EmployeeConflictDto> employeeConflicts = conflicts.entrySet().stream()
+            .map(e -> new EmployeeConflictDto(e.getKey(), toConflictingProjectDtos(e.getValue().values().stream()
+                .sorted(Comparator.comparing(ProjectEntity::getStartDate).thenComparing(ProjectEntity::getId))
+                .toList())))
+            .toList();
+
+        return switch (policy) {
+            case REJECT -> throw new DateChangeConflictException(project.getId(), employeeConflicts);
+            case WARN -> new DateChangeImpactDto(policy, employeeConflicts, List.of());
+            case UNASSIGN -> {
+                List<Long> unassigned = new ArrayList<>(conflicts.keySet());
+                for (Long employeeId : unassigned) {
+                    project.findAssignment(employeeId).ifPresent(assignment -> {
+                        this.assignmentRepository.delete(assignment);
+                        this.intervalIndex.assignmentRemoved(employeeId, project.getId());
+                        this.workloadView.assignmentRemoved(employeeId, project.getStartDate(), project.getPlannedEndDate());
+                        project.getAssignments().remove(assignment);
+                    });
+                }
+                yield new DateChangeImpactDto(policy, employeeConflicts, unassigned);
+            }
+        };
+    }
+
+    /**
+     * Parts of the new period not covered by the old one: none, one or two ranges.
+     */
+    static List<DateRange> addedRanges(LocalDate oldStart, LocalDate oldEnd, LocalDate newStart, LocalDate newEnd) {
+        if (oldStart == null || oldEnd == null || newEnd.isBefore(oldStart) || newStart.isAfter(oldEnd)) {
+            return List.of(new DateRange(newStart, newEnd));
+        }
+        List<DateRange> ranges = new ArrayList<>(2);
+        if (newStart.isBefore(oldStart)) {
+            ranges.add(new DateRange(newStart, oldStart.minusDays(1)));
+        }
+        if (newEnd.isAfter(oldEnd)) {
+            ranges.add(new DateRange(oldEnd.plusDays(1), newEnd));
+        }
+        return ranges;
+    }
+
+    record DateRange(LocalDate start, LocalDate end) {
     }
 }
@@ -0,0 +1,64 @@
+package de.szut.lf8_starter.project;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filter building blocks for project queries. A {@code null} argument means "no restriction".
+ */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<ProjectEntity> idGreaterThan(Long id) {
+        return (root, query, cb) -> id == null ? null : cb.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<ProjectEntity> hasCustomerId(Long customerId) {
+        return (root, query, cb) -> customerId == null ? null : cb.equal(root.get("customerId"), customerId);
+    }
+
+    public static Specification<ProjectEntity> hasResponsibleEmployeeId(Long employeeId) {
+        return (root, query, cb) -> employeeId == null ? null : cb.equal(root.get("responsibleEmployeeId"), employeeId);
+    }
+
+    // Projects running at some point within [from, to]
+    public static Specification<ProjectEntity> overlaps(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) {
+                return null;
+            }
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get("startDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("plannedEndDate"), from);
+            }
+            return cb.and(
+                cb.lessThanOrEqualTo(root.get("startDate"), to),
+                cb.greaterThanOrEqualTo(root.get("plannedEndDate"), from)
+            );
+        };
+    }
+
+    public static Specification<ProjectEntity> hasStatus(ProjectStatus status, LocalDate today) {
+        return (root, query, cb) -> {
+            if (status == null) {
+                return null;
+            }
+            return switch (status) {
+                case COMPLETED -> cb.isNotNull(root.get("actualEndDate"));
+                case ACTIVE -> cb.and(
+                    cb.isNull(root.get("actualEndDate")),
+                    cb.lessThanOrEqualTo(root.get("startDate"), today)
+                );
+                case PLANNED -> cb.and(
+                    cb.isNull(root.get("actualEndDate")),
+                    cb.greaterThan(root.get("startDate"), today)
+                );
+            };
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package de.szut.lf8_starter.project;
+
+/**
+ * Lifecycle status of a project, derived from its dates:
+ * PLANNED before the start date, ACTIVE after it and COMPLETED once an actual end date is set.
+ */
+public enum ProjectStatus {
+    PLANNED,
+    ACTIVE,
+    COMPLETED
+}
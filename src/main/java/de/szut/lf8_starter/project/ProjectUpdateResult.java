@@ -0,0 +1,15 @@
+package de.szut.lf8_starter.project;
+
+import de.szut.lf8_starter.project.dto.DateChangeImpactDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Result of a project update: the saved project and the impact of a date change (null without conflicts)
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectUpdateResult {
+    private final ProjectEntity project;
+    private final DateChangeImpactDto impact;
+}
@@ -63,6 +63,9 @@ public class ApiErrorResponse {
     @Schema(description = "Seconds until retry is possible (only for 503)", example = "60")
     private Integer retryAfter;
 
+    @Schema(description = "Assigned employees overlapping other projects (only for 409 on a date change)")
+    private List<EmployeeConflictDto> employeeConflicts;
+
     // ...existing code...
 
     public ApiErrorResponse(LocalDateTime timestamp, int status, String error, String message,
@@ -84,6 +87,7 @@ public class ApiErrorResponse {
         this.upstreamStatus = null;
         this.circuitBreakerState = null;
         this.retryAfter = null;
+        this.employeeConflicts = null;
     }
 
     @Getter
@@ -0,0 +1,30 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Employee who is free and qualified in the requested period")
+public class AvailableEmployeeDto {
+
+    @Schema(description = "Employee ID", example = "2")
+    private Long employeeId;
+
+    @Schema(description = "First name", example = "Jane")
+    private String firstName;
+
+    @Schema(description = "Last name", example = "Doe")
+    private String lastName;
+
+    @Schema(description = "Level of the qualification", example = "Senior")
+    private String qualificationLevel;
+
+    @Schema(description = "Qualification valid until (null = unlimited)", example = "2027-12-31")
+    private LocalDate qualificationValidUntil;
+}
@@ -0,0 +1,26 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for assigning several employees to a project at once")
+public class BulkAssignmentRequestDto {
+
+    @NotEmpty(message = "At least one assignment is required")
+    @Size(max = 100, message = "At most 100 assignments per request")
+    @Valid
+    @Schema(description = "Employees to assign, each with the qualification required in the project")
+    private List<EmployeeAssignmentDto> assignments;
+}
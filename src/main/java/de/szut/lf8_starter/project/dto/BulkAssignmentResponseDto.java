@@ -0,0 +1,27 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Response of a bulk assignment: one result per requested employee, in request order")
+public class BulkAssignmentResponseDto {
+
+    @Schema(description = "Project identifier", example = "1001")
+    private Long projectId;
+
+    @Schema(description = "Name of the project", example = "Cloud Migration Project Alpha")
+    private String projectName;
+
+    @Schema(description = "Number of employees assigned by this request", example = "48")
+    private int assignedCount;
+
+    @Schema(description = "Result per requested employee")
+    private List<BulkAssignmentResultDto> results;
+}
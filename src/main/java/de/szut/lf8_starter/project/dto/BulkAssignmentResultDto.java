@@ -0,0 +1,34 @@
+package de.szut.lf8_starter.project.dto;
+
+import de.szut.lf8_starter.project.AssignmentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Result for one employee of a bulk assignment")
+public class BulkAssignmentResultDto {
+
+    @Schema(description = "Employee ID", example = "2")
+    private Long employeeId;
+
+    @Schema(description = "Full name of the employee (only for assigned employees)", example = "Jane Doe")
+    private String employeeName;
+
+    @Schema(description = "Requested qualification", example = "Java Developer")
+    private String qualification;
+
+    @Schema(description = "Outcome for this employee", example = "ASSIGNED")
+    private AssignmentStatus status;
+
+    @Schema(description = "Reason if the employee was not assigned")
+    private String message;
+
+    @Schema(description = "Conflicting projects (only for TIME_CONFLICT)")
+    private List<ConflictingProjectDto> conflictingProjects;
+}
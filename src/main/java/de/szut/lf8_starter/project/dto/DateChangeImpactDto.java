@@ -0,0 +1,25 @@
+package de.szut.lf8_starter.project.dto;
+
+import de.szut.lf8_starter.project.DateChangePolicy;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Conflicts caused by moving the project's dates")
+public class DateChangeImpactDto {
+
+    @Schema(description = "Applied conflict policy", example = "WARN")
+    private DateChangePolicy policy;
+
+    @Schema(description = "Assigned employees that overlap other projects in the new period")
+    private List<EmployeeConflictDto> conflicts;
+
+    @Schema(description = "Employees removed from the project (only for UNASSIGN)", example = "[2, 5]")
+    private List<Long> unassignedEmployeeIds;
+}
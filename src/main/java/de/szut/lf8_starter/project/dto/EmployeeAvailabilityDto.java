@@ -0,0 +1,28 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Employees with a qualification who are free in a period")
+public class EmployeeAvailabilityDto {
+
+    @Schema(description = "Requested qualification", example = "Java Developer")
+    private String qualification;
+
+    @Schema(description = "Start of the period", example = "2025-03-01")
+    private LocalDate from;
+
+    @Schema(description = "End of the period", example = "2025-05-31")
+    private LocalDate to;
+
+    @Schema(description = "Free and qualified employees")
+    private List<AvailableEmployeeDto> employees;
+}
@@ -0,0 +1,21 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Projects an assigned employee would overlap after a date change")
+public class EmployeeConflictDto {
+
+    @Schema(description = "Employee ID", example = "2")
+    private Long employeeId;
+
+    @Schema(description = "Overlapping projects of the employee")
+    private List<ConflictingProjectDto> conflictingProjects;
+}
@@ -0,0 +1,22 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Workload of one employee, one value per week of the heatmap")
+public class EmployeeWorkloadDto {
+
+    @Schema(description = "Employee ID", example = "2")
+    private Long employeeId;
+
+    @Schema(description = "Number of projects per week", example = "[1, 1, 2, 0]")
+    private int[] projectCounts;
+
+    @Schema(description = "Allocated workdays (Monday to Friday) per week", example = "[5, 5, 5, 0]")
+    private int[] allocatedDays;
+}
@@ -34,6 +34,9 @@ public class ProjectEmployeesDto {
         @Schema(description = "Employee identifier", example = "2")
         private Long employeeId;
 
+        @Schema(description = "Employee name from the Employee Service", example = "Anna Schmidt")
+        private String employeeName;
+
         @Schema(description = "Required qualification/role for this project", example = "Java Developer")
         private String qualification;
 
@@ -41,5 +44,11 @@ public class ProjectEmployeesDto {
             this.employeeId = employeeId;
             this.qualification = qualification;
         }
+
+        public EmployeeWithQualificationDto(Long employeeId, String employeeName, String qualification) {
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+            this.qualification = qualification;
+        }
     }
 }
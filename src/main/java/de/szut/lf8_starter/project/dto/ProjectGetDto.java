@@ -1,5 +1,6 @@
 package de.szut.lf8_starter.project.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,6 +43,10 @@ public class ProjectGetDto {
     @Schema(description = "Set of employee IDs assigned to this project", example = "[1, 2, 5]")
     private Set<Long> employeeIds;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Conflicts caused by a date change (only in update responses, if any)")
+    private DateChangeImpactDto dateChangeImpact;
+
     public ProjectGetDto(Long id, String designation, Long responsibleEmployeeId, Long customerId,
                         String customerContactPerson, String comment, LocalDate startDate,
                         LocalDate plannedEndDate, LocalDate actualEndDate, Set<Long> employeeIds) {
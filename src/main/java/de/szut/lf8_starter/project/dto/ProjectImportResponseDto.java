@@ -0,0 +1,27 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Response of a project import: valid rows are created, invalid rows are reported")
+public class ProjectImportResponseDto {
+
+    @Schema(description = "Number of rows in the upload", example = "120")
+    private int total;
+
+    @Schema(description = "Number of created projects", example = "118")
+    private int created;
+
+    @Schema(description = "Number of rejected rows", example = "2")
+    private int rejected;
+
+    @Schema(description = "Result per row, in upload order")
+    private List<ProjectImportRowDto> rows;
+}
@@ -0,0 +1,27 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Result of one row of a project import")
+public class ProjectImportRowDto {
+
+    @Schema(description = "Row number in the upload (array position or NDJSON line, starting at 1)", example = "3")
+    private int row;
+
+    @Schema(description = "ID of the created project (null if the row was rejected)", example = "1001")
+    private Long projectId;
+
+    @Schema(description = "Designation of the project", example = "Cloud Migration Project Alpha")
+    private String designation;
+
+    @Schema(description = "Reasons why the row was rejected (empty if created)")
+    private List<String> errors;
+}
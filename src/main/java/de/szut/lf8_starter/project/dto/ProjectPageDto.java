@@ -0,0 +1,24 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Schema(description = "One page of projects with a continuation token for the next page")
+public class ProjectPageDto {
+
+    @Schema(description = "Projects on this page, ordered by ID")
+    private List<ProjectGetDto> items;
+
+    @Schema(description = "Opaque token for the next page; null if this is the last page", example = "djE6MTAwMQ")
+    private String nextCursor;
+
+    public ProjectPageDto(List<ProjectGetDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,25 @@
+package de.szut.lf8_starter.project.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Schema(description = "Weekly workload of several employees")
+public class WorkloadHeatmapDto {
+
+    @Schema(description = "Monday of every week in the requested period", example = "[\"2025-03-03\", \"2025-03-10\"]")
+    private List<LocalDate> weeks;
+
+    @Schema(description = "Workdays per week (full utilisation)", example = "5")
+    private int workdaysPerWeek;
+
+    @Schema(description = "Workload per employee, in request order")
+    private List<EmployeeWorkloadDto> employees;
+}
@@ -1,9 +1,19 @@
 package de.szut.lf8_starter.project.service;
 
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
 import de.szut.lf8_starter.integration.employee.EmployeeValidationService;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Service für Mitarbeiter-Validierung
  * Verwendet den EmployeeValidationService für externe API-Aufrufe
@@ -80,4 +90,67 @@ public class EmployeeService {
             return "Mitarbeiter " + employeeId;
         }
     }
+
+    /**
+     * Prüft mehrere Mitarbeiter mit möglichst wenigen Aufrufen (Batch-Endpunkt, in Blöcken)
+     * IDs, die der Batch-Aufruf nicht liefert, werden einzeln über employeeExists geprüft: unbekannte
+     * Mitarbeiter sind dann bereits negativ gecacht, bei offenem Circuit Breaker greift derselbe Fallback.
+     * @param employeeIds Die Mitarbeiternummern
+     * @return die Mitarbeiternummern, die existieren und aktiv sind
+     */
+    public Set<Long> findActiveEmployeeIds(Collection<Long> employeeIds) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Long employeeId : employeeIds) {
+            if (employeeId != null && employeeId > 0) {
+                candidates.add(employeeId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, EmployeeDto> employees = employeeValidationService.getEmployees(candidates);
+        Set<Long> active = new HashSet<>();
+        for (Long employeeId : candidates) {
+            EmployeeDto employee = employees.get(employeeId);
+            boolean isActive;
+            if (employee != null) {
+                isActive = "ACTIVE".equalsIgnoreCase(employee.getStatus());
+            } else {
+                try {
+                    isActive = employeeExists(employeeId);
+                } catch (EmployeeNotFoundException e) {
+                    isActive = false;
+                }
+            }
+            if (isActive) {
+                active.add(employeeId);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Holt die Namen mehrerer Mitarbeiter mit möglichst wenigen Aufrufen (Batch-Endpunkt)
+     * @param employeeIds Die Mitarbeiternummern
+     * @return Name je Mitarbeiternummer, "Mitarbeiter {ID}" für unbekannte Mitarbeiter oder bei Fehlern
+     */
+    public Map<Long, String> getEmployeeNames(Collection<Long> employeeIds) {
+        Map<Long, EmployeeDto> employees;
+        try {
+            employees = employeeValidationService.getEmployees(employeeIds);
+        } catch (Exception e) {
+            log.debug("Could not fetch employee names for {} employees: {}", employeeIds.size(), e.getMessage());
+            employees = new HashMap<>();
+        }
+
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (Long employeeId : employeeIds) {
+            EmployeeDto employee = employees.get(employeeId);
+            names.put(employeeId, employee != null
+                ? employee.getFirstName() + " " + employee.getLastName()
+                : "Mitarbeiter " + employeeId);
+        }
+        return names;
+    }
 }
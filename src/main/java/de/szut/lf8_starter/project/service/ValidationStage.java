@@ -0,0 +1,68 @@
+package de.szut.lf8_starter.project.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent remote validation calls (Employee Service, Customer Service) concurrently
+ * on virtual threads, so a request pays the slowest call instead of the sum of all calls.
+ * <p>
+ * Usage: fork all checks first, then join them in the order whose errors should win.
+ * {@link Check#join()} rethrows the original exception of the call, so callers keep
+ * the same exception semantics as with sequential calls.
+ */
+public final class ValidationStage {
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ValidationStage() {
+    }
+
+    /**
+     * Starts the call in the background. The request attributes of the calling thread are
+     * handed over, so request-bound data (e.g. EmployeeRequestContext) is shared with the caller.
+     */
+    public static <T> Check<T> fork(Supplier<T> call) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                return call.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }, EXECUTOR);
+        return new Check<>(future);
+    }
+
+    public static final class Check<T> {
+        private final CompletableFuture<T> future;
+
+        private Check(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * Waits for the result; exceptions of the call are rethrown unwrapped
+         */
+        public T join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1,17 +1,15 @@
 package de.szut.lf8_starter.security;
 
 import jakarta.validation.constraints.NotNull;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -31,9 +29,6 @@ import java.util.List;
 @ConditionalOnProperty(value = "authentik.enabled", havingValue = "true")
 public class AuthentikSecurityConfig {
 
-    @Value("${authentik.jwk-set-uri:https://authentik.szut.dev/application/o/hitec/jwks/}")
-    private String jwkSetUri;
-
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
@@ -45,17 +40,12 @@ public class AuthentikSecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
-    }
-
-    @Bean
-    public SecurityFilterChain authentikFilterChain(HttpSecurity http, KeycloakJwtAuthenticationConverter jwtConverter) throws Exception {
+    public SecurityFilterChain authentikFilterChain(HttpSecurity http, KeycloakJwtAuthenticationConverter jwtConverter, CachingJwtDecoder jwtDecoder) throws Exception {
         http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtConverter))
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtDecoder.reusingConversion(jwtConverter)))
                         .authenticationEntryPoint(authenticationEntryPoint)
                 )
                 .exceptionHandling(exceptionHandling -> exceptionHandling
@@ -69,6 +59,9 @@ public class AuthentikSecurityConfig {
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
+                        // Switching the Employee Service call log is reserved for administrators
+                        .requestMatchers(HttpMethod.POST, "/actuator/feigncalllog").hasRole("hitec-admin")
+                        .requestMatchers(HttpMethod.DELETE, "/actuator/feigncalllog").hasRole("hitec-admin")
                         // All other endpoints require authentication and hitec-employee role
                         .anyRequest().hasRole("hitec-employee")
                 );
@@ -0,0 +1,139 @@
+package de.szut.lf8_starter.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * JwtDecoder that remembers successfully decoded tokens, so the same bearer token is parsed and
+ * signature-checked only once instead of on every request.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token (the raw token is not used as key) and live until
+ * the token's {@code exp}, at most {@code maxTtl}. Tokens without {@code exp} and failed decodes are
+ * never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Duration maxTtl;
+    private final Cache<String, CachedJwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry, long maxSize, Duration maxTtl) {
+        this(delegate, maxSize, maxTtl, Clock.systemUTC(), Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "security.jwt");
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTtl, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, CachedJwt>() {
+                // TTL is fixed when the token is cached: until its exp, at most maxTtl
+                @Override
+                public long expireAfterCreate(String key, CachedJwt cached, long currentTime) {
+                    return cached.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, CachedJwt cached, long currentTime, long currentDuration) {
+                    return cached.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, CachedJwt cached, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = key(token);
+        CachedJwt cached = cache.getIfPresent(key);
+        if (cached != null && cached.jwt().getTokenValue().equals(token)) {
+            return cached.jwt();
+        }
+
+        Jwt jwt = delegate.decode(token);
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null) {
+            Duration untilExpiry = Duration.between(clock.instant(), expiresAt);
+            if (untilExpiry.isPositive()) {
+                cache.put(key, new CachedJwt(jwt, untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl));
+            }
+        }
+        return jwt;
+    }
+
+    /**
+     * Wraps the converter so it runs once per cached token. The authentication token itself is created
+     * per request from the cached result, since JwtAuthenticationProvider stores the request details on it.
+     */
+    public Converter<Jwt, AbstractAuthenticationToken> reusingConversion(Converter<Jwt, AbstractAuthenticationToken> converter) {
+        return jwt -> {
+            CachedJwt cached = cache.getIfPresent(key(jwt.getTokenValue()));
+            if (cached == null || cached.jwt() != jwt) {
+                return converter.convert(jwt);
+            }
+            AbstractAuthenticationToken converted = cached.converted;
+            if (converted == null) {
+                converted = converter.convert(jwt);
+                cached.converted = converted;
+            }
+            return new JwtAuthenticationToken(jwt, converted.getAuthorities(), converted.getName());
+        };
+    }
+
+    private static String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedJwt {
+        private final Jwt jwt;
+        private final Duration ttl;
+        // Result of the authentication converter, set on first use; a race only converts twice
+        private volatile AbstractAuthenticationToken converted;
+
+        private CachedJwt(Jwt jwt, Duration ttl) {
+            this.jwt = jwt;
+            this.ttl = ttl;
+        }
+
+        Jwt jwt() {
+            return jwt;
+        }
+
+        Duration ttl() {
+            return ttl;
+        }
+    }
+}
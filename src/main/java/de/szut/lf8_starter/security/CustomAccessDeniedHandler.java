@@ -1,11 +1,7 @@
 package de.szut.lf8_starter.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import de.szut.lf8_starter.project.dto.ApiErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -14,7 +10,6 @@ import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,20 +19,19 @@ import java.util.stream.Collectors;
 @Component
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
+    private final SecurityErrorResponseWriter writer;
+    private final SecurityErrorResponseWriter.Template forbidden;
 
-    public CustomAccessDeniedHandler() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    public CustomAccessDeniedHandler(SecurityErrorResponseWriter writer) {
+        this.writer = writer;
+        this.forbidden = writer.template(HttpServletResponse.SC_FORBIDDEN, "Forbidden",
+                "Unzureichende Berechtigungen. Erforderliche Rolle: hitec-employee", List.of("hitec-employee"));
     }
 
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response,
                        AccessDeniedException accessDeniedException) throws IOException {
 
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
-
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         List<String> userRoles = List.of();
 
@@ -48,17 +42,7 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
                     .collect(Collectors.toList());
         }
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpServletResponse.SC_FORBIDDEN)
-                .error("Forbidden")
-                .message("Unzureichende Berechtigungen. Erforderliche Rolle: hitec-employee")
-                .path(request.getRequestURI())
-                .requiredRoles(List.of("hitec-employee"))
-                .userRoles(userRoles)
-                .build();
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        writer.write(response, forbidden, request.getRequestURI(), null, userRoles);
     }
 }
 
@@ -1,17 +1,12 @@
 package de.szut.lf8_starter.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import de.szut.lf8_starter.project.dto.ApiErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 
 /**
  * Custom AuthenticationEntryPoint to handle 401 Unauthorized responses
@@ -19,42 +14,29 @@ import java.time.LocalDateTime;
 @Component
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
+    private final SecurityErrorResponseWriter writer;
+    private final SecurityErrorResponseWriter.Template missingToken;
+    private final SecurityErrorResponseWriter.Template invalidToken;
 
-    public CustomAuthenticationEntryPoint() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    public CustomAuthenticationEntryPoint(SecurityErrorResponseWriter writer) {
+        this.writer = writer;
+        this.missingToken = writer.template(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized",
+                "JWT-Token fehlt im Authorization-Header.", null);
+        this.invalidToken = writer.template(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized",
+                "JWT-Token ist ungültig oder abgelaufen.", null);
     }
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
-
-        String message;
-        String details = null;
-
         // Check if token is missing or invalid
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            message = "JWT-Token fehlt im Authorization-Header.";
+            writer.write(response, missingToken, request.getRequestURI(), null, null);
         } else {
-            message = "JWT-Token ist ungültig oder abgelaufen.";
-            details = authException.getMessage();
+            writer.write(response, invalidToken, request.getRequestURI(), authException.getMessage(), null);
         }
-
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpServletResponse.SC_UNAUTHORIZED)
-                .error("Unauthorized")
-                .message(message)
-                .path(request.getRequestURI())
-                .details(details)
-                .build();
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
     }
 }
 
@@ -0,0 +1,65 @@
+package de.szut.lf8_starter.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JWK source and caching JWT decoder shared by the Keycloak and Authentik security configurations.
+ *
+ * The key set is read from authentik.jwk-set-uri when Authentik is enabled, otherwise from the
+ * resource server's jwk-set-uri (local Keycloak).
+ */
+@Configuration
+@ConditionalOnExpression("${keycloak.enabled:false} or ${authentik.enabled:false}")
+public class JwtDecoderConfig {
+
+    @Value("${authentik.enabled:false}")
+    private boolean authentikEnabled;
+
+    @Value("${authentik.jwk-set-uri:https://authentik.szut.dev/application/o/hitec/jwks/}")
+    private String authentikJwkSetUri;
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}")
+    private String keycloakJwkSetUri;
+
+    // Decoded tokens are kept until they expire, bounded by size and max-ttl
+    @Value("${security.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
+    @Value("${security.jwt.cache.max-ttl:10m}")
+    private Duration jwtCacheMaxTtl;
+
+    // Keys are refreshed in the background; the last good set survives restarts in cache-file
+    @Value("${security.jwk.refresh-interval:5m}")
+    private Duration jwkRefreshInterval;
+
+    @Value("${security.jwk.min-refresh-interval:30s}")
+    private Duration jwkMinRefreshInterval;
+
+    @Value("${security.jwk.timeout:3s}")
+    private Duration jwkTimeout;
+
+    @Value("${security.jwk.cache-file:}")
+    private String jwkCacheFile;
+
+    @Bean
+    public RefreshingJwkSource jwkSource() {
+        RefreshingJwkSource source = new RefreshingJwkSource(
+                authentikEnabled ? authentikJwkSetUri : keycloakJwkSetUri,
+                jwkCacheFile.isBlank() ? null : Path.of(jwkCacheFile),
+                jwkRefreshInterval, jwkMinRefreshInterval, jwkTimeout);
+        source.start();
+        return source;
+    }
+
+    @Bean
+    public CachingJwtDecoder jwtDecoder(MeterRegistry meterRegistry, RefreshingJwkSource jwkSource) {
+        return new CachingJwtDecoder(jwkSource.jwtDecoder(), meterRegistry, jwtCacheMaxSize, jwtCacheMaxTtl);
+    }
+}
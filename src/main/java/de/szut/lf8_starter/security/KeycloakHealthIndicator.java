@@ -0,0 +1,39 @@
+package de.szut.lf8_starter.security;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * "keycloak" entry of /actuator/health, read from the last probes of {@link KeycloakHealthService}.
+ * An unreachable Keycloak is reported as UNKNOWN, not DOWN, so the aggregate status (and liveness/readiness
+ * probes on it) stays UP: restarting or draining the application would not bring Keycloak back, and it
+ * recovers by itself once the probes succeed again. The state is visible under /actuator/health/keycloak.
+ */
+@Component
+@ConditionalOnProperty(value = "keycloak.enabled", havingValue = "true")
+public class KeycloakHealthIndicator implements HealthIndicator {
+
+    private final KeycloakHealthService keycloakHealthService;
+
+    public KeycloakHealthIndicator(KeycloakHealthService keycloakHealthService) {
+        this.keycloakHealthService = keycloakHealthService;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = keycloakHealthService.isKeycloakUp() ? Health.up() : Health.unknown();
+        KeycloakHealthService.Probe probe = keycloakHealthService.getLastProbe();
+        if (probe != null) {
+            builder.withDetail("reachable", keycloakHealthService.isKeycloakUp())
+                .withDetail("lastProbe", probe.at())
+                .withDetail("lastProbeReachable", probe.reachable())
+                .withDetail("consecutiveFailures", probe.consecutiveFailures());
+            if (probe.error() != null) {
+                builder.withDetail("error", probe.error());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -1,53 +1,156 @@
 package de.szut.lf8_starter.security;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.URI;
 import java.net.URL;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Reachability of Keycloak, probed in the background every {@code keycloak.health.interval} (plus/minus
+ * {@code jitter}, so several instances do not probe in lockstep). The state only flips after
+ * {@code failure-threshold} failed or {@code success-threshold} successful probes in a row; the first
+ * probe at startup applies directly. {@link #isKeycloakUp()} is a plain volatile read.
+ * Probes run on the application's shared {@link TaskScheduler}.
+ */
 @Service
 @Slf4j
 public class KeycloakHealthService {
 
-    private final AtomicBoolean isKeycloakUp = new AtomicBoolean(false);
+    private final boolean enabled;
+    private final Duration interval;
+    private final double jitter;
+    private final int failureThreshold;
+    private final int successThreshold;
+    private final Prober prober;
+    private final Clock clock;
+    private final TaskScheduler taskScheduler;
 
-    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-    private String jwkSetUri;
+    private volatile boolean isKeycloakUp;
+    private volatile Probe lastProbe;
+
+    // Only changed in checkKeycloakConnection; guarded by this
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+
+    @Autowired
+    public KeycloakHealthService(@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+                                 @Value("${keycloak.enabled:false}") boolean enabled,
+                                 @Value("${keycloak.health.interval:15s}") Duration interval,
+                                 @Value("${keycloak.health.jitter:0.2}") double jitter,
+                                 @Value("${keycloak.health.failure-threshold:3}") int failureThreshold,
+                                 @Value("${keycloak.health.success-threshold:2}") int successThreshold,
+                                 @Value("${keycloak.health.timeout:2s}") Duration timeout,
+                                 TaskScheduler taskScheduler) {
+        this(enabled, interval, jitter, failureThreshold, successThreshold,
+            () -> connect(jwkSetUri, timeout), Clock.systemUTC(), taskScheduler);
+    }
+
+    KeycloakHealthService(boolean enabled, Duration interval, double jitter, int failureThreshold,
+                          int successThreshold, Prober prober, Clock clock, TaskScheduler taskScheduler) {
+        this.enabled = enabled;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.failureThreshold = failureThreshold;
+        this.successThreshold = successThreshold;
+        this.prober = prober;
+        this.clock = clock;
+        this.taskScheduler = taskScheduler;
+    }
 
     @EventListener(ApplicationReadyEvent.class)
     public void checkKeycloakConnectionOnStartup() {
+        if (!enabled) {
+            log.info("Keycloak disabled, no health probing.");
+            return;
+        }
         checkKeycloakConnection();
+        scheduleNextProbe();
     }
 
-    public void checkKeycloakConnection() {
+    /**
+     * Probes once and updates the state according to the thresholds
+     */
+    public synchronized void checkKeycloakConnection() {
+        boolean firstProbe = lastProbe == null;
+        String error = null;
         try {
-            URL url = new URL(jwkSetUri);
-            String host = url.getHost();
-            int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
-
-            try (Socket socket = new Socket()) {
-                socket.connect(new InetSocketAddress(host, port), 2000); // 2-second timeout
-                isKeycloakUp.set(true);
-                log.info("Keycloak connection successful.");
-            } catch (IOException e) {
-                isKeycloakUp.set(false);
-                log.warn("Keycloak connection failed. Service will be unavailable. Details: {}", e.getMessage());
-            }
+            prober.probe();
+            consecutiveSuccesses++;
+            consecutiveFailures = 0;
         } catch (Exception e) {
-            isKeycloakUp.set(false);
-            log.error("Invalid JWK Set URI: {}", jwkSetUri, e);
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            consecutiveFailures++;
+            consecutiveSuccesses = 0;
+        }
+        lastProbe = new Probe(clock.instant(), error == null, error, consecutiveFailures, consecutiveSuccesses);
+
+        if (!isKeycloakUp && error == null && (firstProbe || consecutiveSuccesses >= successThreshold)) {
+            isKeycloakUp = true;
+            log.info("Keycloak connection successful.");
+        } else if (error != null && (firstProbe || (isKeycloakUp && consecutiveFailures >= failureThreshold))) {
+            isKeycloakUp = false;
+            log.warn("Keycloak connection failed. Service will be unavailable. Details: {}", error);
         }
     }
 
     public boolean isKeycloakUp() {
-        return isKeycloakUp.get();
+        return isKeycloakUp;
+    }
+
+    /**
+     * Result of the latest probe, null before the first one
+     */
+    public Probe getLastProbe() {
+        return lastProbe;
+    }
+
+    Duration nextProbeDelay() {
+        double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis(Math.max(1, Math.round(interval.toMillis() * factor)));
+    }
+
+    private void scheduleNextProbe() {
+        try {
+            taskScheduler.schedule(() -> {
+                try {
+                    checkKeycloakConnection();
+                } finally {
+                    scheduleNextProbe();
+                }
+            }, clock.instant().plus(nextProbeDelay()));
+        } catch (TaskRejectedException e) {
+            // Scheduler is shutting down with the application context
+            log.debug("Keycloak health probing stopped: {}", e.getMessage());
+        }
+    }
+
+    private static void connect(String jwkSetUri, Duration timeout) throws IOException {
+        URL url = URI.create(jwkSetUri).toURL();
+        int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(url.getHost(), port), (int) timeout.toMillis());
+        }
+    }
+
+    public record Probe(Instant at, boolean reachable, String error, int consecutiveFailures, int consecutiveSuccesses) {
     }
-}
 
+    @FunctionalInterface
+    interface Prober {
+        void probe() throws IOException;
+    }
+}
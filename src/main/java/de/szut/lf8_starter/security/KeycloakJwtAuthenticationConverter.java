@@ -1,5 +1,7 @@
 package de.szut.lf8_starter.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -8,17 +10,34 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Converter to extract roles from Keycloak/Authentik JWT token's realm_access claim
  * and convert them to Spring Security GrantedAuthority objects.
+ * <p>
+ * Users share a handful of role combinations, so the authorities are interned per combination:
+ * a known combination resolves to the same immutable list without building new authorities.
  */
 @Component
 public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 
+    // Distinct role combinations kept; far more than a realm usually has
+    private static final int MAX_ROLE_SETS = 1024;
+
+    private final Cache<RoleClaims, List<GrantedAuthority>> authoritiesByRoles = Caffeine.newBuilder()
+            .maximumSize(MAX_ROLE_SETS)
+            .build();
+
+    // One instance per role name, shared by all combinations containing it
+    private final Cache<String, GrantedAuthority> authoritiesByRole = Caffeine.newBuilder()
+            .maximumSize(MAX_ROLE_SETS)
+            .build();
+
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
         Collection<GrantedAuthority> authorities = extractAuthorities(jwt);
@@ -26,34 +45,59 @@ public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, Abstra
     }
 
     private Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
-        Collection<GrantedAuthority> authorities = new java.util.ArrayList<>();
+        // Roles from realm_access and from resource_access of the project-management-service client
+        RoleClaims claims = new RoleClaims(realmRoles(jwt), clientRoles(jwt));
+
+        List<GrantedAuthority> authorities = authoritiesByRoles.getIfPresent(claims);
+        if (authorities == null) {
+            // The claim lists belong to the token; the cache keeps its own copies without null entries
+            RoleClaims key = new RoleClaims(withoutNulls(claims.realmRoles()), withoutNulls(claims.clientRoles()));
+            authorities = toAuthorities(key);
+            authoritiesByRoles.put(key, authorities);
+        }
+        return authorities;
+    }
+
+    private List<GrantedAuthority> toAuthorities(RoleClaims claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>(claims.realmRoles().size() + claims.clientRoles().size());
+        for (String role : claims.realmRoles()) {
+            authorities.add(authoritiesByRole.get(role, r -> new SimpleGrantedAuthority("ROLE_" + r)));
+        }
+        for (String role : claims.clientRoles()) {
+            authorities.add(authoritiesByRole.get(role, r -> new SimpleGrantedAuthority("ROLE_" + r)));
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static List<String> withoutNulls(List<String> roles) {
+        return roles.stream().filter(Objects::nonNull).toList();
+    }
 
-        // Extract roles from realm_access
+    @SuppressWarnings("unchecked")
+    private static List<String> realmRoles(Jwt jwt) {
         Map<String, Object> realmAccess = jwt.getClaim("realm_access");
         if (realmAccess != null && realmAccess.containsKey("roles")) {
-            @SuppressWarnings("unchecked")
-            List<String> realmRoles = (List<String>) realmAccess.get("roles");
-            authorities.addAll(realmRoles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .toList());
+            return (List<String>) realmAccess.get("roles");
         }
+        return List.of();
+    }
 
-        // Extract roles from resource_access (client-specific roles)
+    @SuppressWarnings("unchecked")
+    private static List<String> clientRoles(Jwt jwt) {
         Map<String, Object> resourceAccess = jwt.getClaim("resource_access");
         if (resourceAccess != null) {
-            // Try to get roles from project-management-service client
-            @SuppressWarnings("unchecked")
             Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get("project-management-service");
             if (clientAccess != null && clientAccess.containsKey("roles")) {
-                @SuppressWarnings("unchecked")
-                List<String> clientRoles = (List<String>) clientAccess.get("roles");
-                authorities.addAll(clientRoles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .toList());
+                return (List<String>) clientAccess.get("roles");
             }
         }
+        return List.of();
+    }
 
-        return authorities;
+    /**
+     * Role claims of a token; realm and client roles stay apart, as in the token
+     */
+    private record RoleClaims(List<String> realmRoles, List<String> clientRoles) {
     }
 }
 
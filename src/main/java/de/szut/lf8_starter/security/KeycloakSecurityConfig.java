@@ -1,16 +1,14 @@
 package de.szut.lf8_starter.security;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -33,9 +31,6 @@ import static de.szut.lf8_starter.security.AuthentikSecurityConfig.getCorsConfig
 @ConditionalOnProperty(value = "keycloak.enabled", havingValue = "true")
 public class KeycloakSecurityConfig {
 
-    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-    private String jwkSetUri;
-
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final KeycloakHealthService keycloakHealthService;
@@ -50,23 +45,18 @@ public class KeycloakSecurityConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
-    }
-
-    @Bean
-    public ServiceUnavailableFilter serviceUnavailableFilter() {
-        return new ServiceUnavailableFilter(keycloakHealthService);
+    public ServiceUnavailableFilter serviceUnavailableFilter(SecurityErrorResponseWriter errorResponseWriter) {
+        return new ServiceUnavailableFilter(keycloakHealthService, errorResponseWriter);
     }
 
     @Bean
-    public SecurityFilterChain keycloakFilterChain(HttpSecurity http, KeycloakJwtAuthenticationConverter jwtConverter, ServiceUnavailableFilter serviceUnavailableFilter) throws Exception {
+    public SecurityFilterChain keycloakFilterChain(HttpSecurity http, KeycloakJwtAuthenticationConverter jwtConverter, CachingJwtDecoder jwtDecoder, ServiceUnavailableFilter serviceUnavailableFilter) throws Exception {
         http
                 .addFilterBefore(serviceUnavailableFilter, BasicAuthenticationFilter.class)
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtConverter))
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtDecoder.reusingConversion(jwtConverter)))
                         .authenticationEntryPoint(authenticationEntryPoint)
                 )
                 .exceptionHandling(exceptionHandling -> exceptionHandling
@@ -80,6 +70,9 @@ public class KeycloakSecurityConfig {
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/swagger").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
+                        // Switching the Employee Service call log is reserved for administrators
+                        .requestMatchers(HttpMethod.POST, "/actuator/feigncalllog").hasRole("hitec-admin")
+                        .requestMatchers(HttpMethod.DELETE, "/actuator/feigncalllog").hasRole("hitec-admin")
                         // All other endpoints require authentication and hitec-employee role
                         .anyRequest().hasRole("hitec-employee")
                 );
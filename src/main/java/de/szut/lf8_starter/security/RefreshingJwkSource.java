@@ -0,0 +1,216 @@
+package de.szut.lf8_starter.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWK set of the identity provider that request threads never have to wait for in the normal case.
+ * <p>
+ * The set is refreshed in the background every {@code refreshInterval}; a failed refresh keeps the
+ * current keys and is retried after {@code minRefreshInterval}. Only a token with an unknown {@code kid}
+ * (key rotation) triggers a fetch on the request thread, at most once per {@code minRefreshInterval}.
+ * The last good set is written to {@code cacheFile}, so after a restart tokens can be verified
+ * before the IdP has answered.
+ */
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+    // Custom member in the cache file: keys of another IdP are not loaded
+    private static final String SOURCE_MEMBER = "x-jwk-set-uri";
+
+    private final String jwkSetUri;
+    private final Fetcher fetcher;
+    private final Path cacheFile;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("jwk-refresh").daemon().factory());
+
+    private volatile JWKSet keys;
+
+    // Start of the last fetch (successful or not); guarded by this
+    private Instant lastFetchAttempt = Instant.MIN;
+
+    public RefreshingJwkSource(String jwkSetUri, Path cacheFile, Duration refreshInterval,
+                               Duration minRefreshInterval, Duration timeout) {
+        this(jwkSetUri, remoteFetcher(jwkSetUri, timeout), cacheFile, refreshInterval, minRefreshInterval, Clock.systemUTC());
+    }
+
+    RefreshingJwkSource(String jwkSetUri, Fetcher fetcher, Path cacheFile, Duration refreshInterval,
+                        Duration minRefreshInterval, Clock clock) {
+        this.jwkSetUri = jwkSetUri;
+        this.fetcher = fetcher;
+        this.cacheFile = cacheFile;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+        this.keys = readCacheFile();
+    }
+
+    /**
+     * Fetches the set right away (in the background) and then every refresh interval
+     */
+    public void start() {
+        scheduler.execute(this::scheduledRefresh);
+    }
+
+    /**
+     * Decoder on top of this source; same algorithm (RS256) and validation as NimbusJwtDecoder.withJwkSetUri
+     */
+    public JwtDecoder jwtDecoder() {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, this));
+        // Claims are checked by Spring's JwtValidators, not by Nimbus
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+        return new NimbusJwtDecoder(processor);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        JWKSet current = keys;
+        if (current != null) {
+            List<JWK> matches = selector.select(current);
+            if (!matches.isEmpty()) {
+                return matches;
+            }
+        }
+        // Unknown kid or no keys at all: the IdP may have rotated, ask it now
+        JWKSet refreshed = refreshIfAllowed(current);
+        if (refreshed == null) {
+            throw new KeySourceException("No JWK set available from " + jwkSetUri);
+        }
+        return selector.select(refreshed);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    JWKSet currentKeys() {
+        return keys;
+    }
+
+    private void scheduledRefresh() {
+        Duration next = refreshInterval;
+        try {
+            synchronized (this) {
+                fetch();
+            }
+        } catch (Exception e) {
+            next = minRefreshInterval;
+            log.warn("JWK set refresh from {} failed, keeping {} key(s): {}", jwkSetUri,
+                keys == null ? 0 : keys.getKeys().size(), e.getMessage());
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::scheduledRefresh, next.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetches the set unless another thread just did (then its result is used) or the last attempt
+     * is younger than minRefreshInterval - tokens with made-up kids must not hammer the IdP.
+     */
+    private synchronized JWKSet refreshIfAllowed(JWKSet seen) throws KeySourceException {
+        if (keys != seen) {
+            return keys;
+        }
+        if (lastFetchAttempt.plus(minRefreshInterval).isAfter(clock.instant())) {
+            return keys;
+        }
+        try {
+            return fetch();
+        } catch (IOException | ParseException e) {
+            if (keys != null) {
+                log.warn("JWK set refresh from {} failed: {}", jwkSetUri, e.getMessage());
+                return keys;
+            }
+            throw new KeySourceException("Couldn't retrieve JWK set from " + jwkSetUri, e);
+        }
+    }
+
+    // Callers hold the lock
+    private JWKSet fetch() throws IOException, ParseException {
+        lastFetchAttempt = clock.instant();
+        JWKSet fetched = fetcher.fetch();
+        if (keys == null || !fetched.getKeys().equals(keys.getKeys())) {
+            log.info("JWK set from {} loaded: {} key(s).", jwkSetUri, fetched.getKeys().size());
+            keys = fetched;
+            writeCacheFile(fetched);
+        }
+        return fetched;
+    }
+
+    private JWKSet readCacheFile() {
+        if (cacheFile == null || !Files.isReadable(cacheFile)) {
+            return null;
+        }
+        try {
+            JWKSet cached = JWKSet.parse(Files.readString(cacheFile, StandardCharsets.UTF_8));
+            if (!jwkSetUri.equals(cached.getAdditionalMembers().get(SOURCE_MEMBER))) {
+                return null;
+            }
+            log.info("JWK set loaded from {}: {} key(s).", cacheFile, cached.getKeys().size());
+            return new JWKSet(cached.getKeys());
+        } catch (IOException | ParseException e) {
+            log.warn("Ignoring unreadable JWK cache file {}: {}", cacheFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCacheFile(JWKSet set) {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            // Public keys only; written next to the target and moved, so a crash never leaves half a file
+            JWKSet stored = new JWKSet(set.toPublicJWKSet().getKeys(), Map.of(SOURCE_MEMBER, jwkSetUri));
+            Path parent = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, cacheFile.getFileName().toString(), ".tmp");
+            Files.writeString(temp, stored.toString(true), StandardCharsets.UTF_8);
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Couldn't write JWK cache file {}: {}", cacheFile, e.getMessage());
+        }
+    }
+
+    private static Fetcher remoteFetcher(String jwkSetUri, Duration timeout) {
+        int timeoutMillis = (int) timeout.toMillis();
+        DefaultResourceRetriever retriever = new DefaultResourceRetriever(timeoutMillis, timeoutMillis, 256 * 1024);
+        return () -> JWKSet.parse(retriever.retrieveResource(URI.create(jwkSetUri).toURL()).getContent());
+    }
+
+    @FunctionalInterface
+    interface Fetcher {
+        JWKSet fetch() throws IOException, ParseException;
+    }
+}
@@ -0,0 +1,111 @@
+package de.szut.lf8_starter.security;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the {@code ApiErrorResponse} JSON of the security layer (401, 403, 503) straight into the
+ * response output stream. Everything that is the same for every rejected request - status, error,
+ * message, required roles - is serialized once into a {@link Template}; per request only timestamp,
+ * path, details and the user's roles are generated. Field order and names match ApiErrorResponse.
+ */
+@Component
+public class SecurityErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString PATH = new SerializedString("path");
+    private static final SerializableString DETAILS = new SerializedString("details");
+    private static final SerializableString USER_ROLES = new SerializedString("userRoles");
+
+    private final ObjectMapper objectMapper;
+
+    public SecurityErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Pre-serializes the fixed part of an error response
+     * @param requiredRoles written as "requiredRoles", null to leave the field out
+     */
+    public Template template(int status, String error, String message, List<String> requiredRoles) {
+        Map<String, Object> head = new LinkedHashMap<>();
+        head.put("status", status);
+        head.put("error", error);
+        head.put("message", message);
+        Map<String, Object> tail = new LinkedHashMap<>();
+        if (requiredRoles != null) {
+            tail.put("requiredRoles", requiredRoles);
+        }
+        return new Template(status, fragment(head), tail.isEmpty() ? null : fragment(tail));
+    }
+
+    /**
+     * Writes the response
+     * @param details  null to leave the field out
+     * @param userRoles written as "userRoles", null to leave the field out
+     */
+    public void write(HttpServletResponse response, Template template, String path, String details,
+                      List<String> userRoles) throws IOException {
+        response.setStatus(template.status());
+        response.setContentType(CONTENT_TYPE);
+
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(response.getOutputStream(), JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeFieldName(TIMESTAMP);
+            // Same date format as the responses of the GlobalExceptionHandler
+            generator.writeObject(LocalDateTime.now());
+            generator.writeRaw(template.head());
+            generator.writeFieldName(PATH);
+            generator.writeString(path);
+            if (details != null) {
+                generator.writeFieldName(DETAILS);
+                generator.writeString(details);
+            }
+            if (template.tail() != null) {
+                generator.writeRaw(template.tail());
+            }
+            if (userRoles != null) {
+                generator.writeFieldName(USER_ROLES);
+                generator.writeStartArray();
+                for (String role : userRoles) {
+                    generator.writeString(role);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Fields as raw JSON to be written after another field: leading comma, no braces
+     */
+    private SerializableString fragment(Map<String, Object> fields) {
+        try {
+            String json = objectMapper.writeValueAsString(fields);
+            return new SerializedString("," + json.substring(1, json.length() - 1));
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't serialize error response template", e);
+        }
+    }
+
+    /**
+     * Fixed part of one kind of error response, encoded once
+     */
+    public record Template(int status, SerializableString head, SerializableString tail) {
+    }
+}
@@ -1,27 +1,24 @@
 package de.szut.lf8_starter.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import de.szut.lf8_starter.project.dto.ApiErrorResponse;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.MediaType;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 
 public class ServiceUnavailableFilter extends OncePerRequestFilter {
 
     private final KeycloakHealthService keycloakHealthService;
-    private final ObjectMapper objectMapper;
+    private final SecurityErrorResponseWriter writer;
+    private final SecurityErrorResponseWriter.Template unavailable;
 
-    public ServiceUnavailableFilter(KeycloakHealthService keycloakHealthService) {
+    public ServiceUnavailableFilter(KeycloakHealthService keycloakHealthService, SecurityErrorResponseWriter writer) {
         this.keycloakHealthService = keycloakHealthService;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.writer = writer;
+        this.unavailable = writer.template(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service Unavailable",
+                "Authentifizierungsservice nicht erreichbar.", null);
     }
 
     @Override
@@ -29,18 +26,7 @@ public class ServiceUnavailableFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         if (!keycloakHealthService.isKeycloakUp()) {
-            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
-            response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
-
-            ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                    .timestamp(LocalDateTime.now())
-                    .status(HttpServletResponse.SC_SERVICE_UNAVAILABLE)
-                    .error("Service Unavailable")
-                    .message("Authentifizierungsservice nicht erreichbar.")
-                    .path(request.getRequestURI())
-                    .build();
-
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            writer.write(response, unavailable, request.getRequestURI(), null, null);
             return;
         }
 
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -112,4 +113,22 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getError()).isEqualTo("Conflict");
         assertThat(response.getBody().getMessage()).isEqualTo("Employee with ID 2 is already assigned to project with ID 1.");
     }
+
+    @Test
+    @DisplayName("OptimisticLockingFailureException - Returns 409")
+    void handleConcurrencyFailure_Returns409() {
+        // Given
+        OptimisticLockingFailureException ex = new OptimisticLockingFailureException("Row was updated by another transaction");
+        WebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/projects/1/employees"));
+
+        // When
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleConcurrencyFailure(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        Assertions.assertNotNull(response.getBody());
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+        assertThat(response.getBody().getPath()).isEqualTo("/projects/1/employees");
+        assertThat(response.getBody().getMessage()).isEqualTo("The data was changed by a parallel request. Please retry.");
+    }
 }
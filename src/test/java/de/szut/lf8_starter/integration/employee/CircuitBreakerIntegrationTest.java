@@ -6,11 +6,15 @@ import de.szut.lf8_starter.exceptionHandling.CircuitBreakerOpenException;
 import de.szut.lf8_starter.exceptionHandling.EmployeeServiceUnavailableException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,12 +40,24 @@ class CircuitBreakerIntegrationTest {
     @Autowired
     private EmployeeValidationService employeeValidationService;
 
+    @Autowired
+    private EmployeeLookupCache employeeLookupCache;
+
+    @Autowired
+    private StaleEmployeeFallback staleEmployeeFallback;
+
+    @Autowired
+    private EmployeeRequestContext employeeRequestContext;
+
     @Autowired
     private CircuitBreakerRegistry circuitBreakerRegistry;
 
     @BeforeEach
     void setUp() {
         WireMock.reset();
+        // Tests reuse employee IDs with different stubs
+        employeeLookupCache.invalidateAll();
+        staleEmployeeFallback.invalidateAll();
 
         // Reset Circuit Breaker to CLOSED state
         CircuitBreaker cb = circuitBreakerRegistry.circuitBreaker("employeeService");
@@ -49,6 +65,11 @@ class CircuitBreakerIntegrationTest {
         cb.reset();
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void circuitBreaker_OpensAfterFailures() throws InterruptedException {
         // Arrange: Mock service returns 500 errors
@@ -207,5 +228,63 @@ class CircuitBreakerIntegrationTest {
         assertNotNull(metrics);
         assertTrue(metrics.getNumberOfSuccessfulCalls() > 0 || metrics.getNumberOfFailedCalls() > 0);
     }
-}
 
+    @Test
+    void circuitBreakerOpen_KnownEmployee_ServedStale() {
+        // Arrange: employee loaded once while the service was healthy
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "employeeId": 12345,
+                        "firstName": "Max",
+                        "lastName": "Mustermann",
+                        "email": "max@hitec.de",
+                        "status": "ACTIVE"
+                    }
+                    """)));
+        assertTrue(employeeValidationService.validateEmployee(12345L));
+
+        CircuitBreaker cb = circuitBreakerRegistry.circuitBreaker("employeeService");
+        cb.transitionToOpenState();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // Act & Assert: last known data answers, the request is marked stale
+        assertTrue(employeeValidationService.validateEmployee(12345L));
+        assertTrue(employeeRequestContext.isStale());
+
+        // Never loaded before: nothing to fall back to
+        assertThrows(CircuitBreakerOpenException.class, () -> employeeValidationService.validateEmployee(67890L));
+    }
+
+    @Test
+    void circuitBreakerHalfOpen_StaleEmployeesRevalidated() throws InterruptedException {
+        // Arrange: employee served stale while the breaker is open
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "employeeId": 12345,
+                        "firstName": "Max",
+                        "lastName": "Mustermann",
+                        "email": "max@hitec.de",
+                        "status": "ACTIVE"
+                    }
+                    """)));
+        employeeValidationService.validateEmployee(12345L);
+        CircuitBreaker cb = circuitBreakerRegistry.circuitBreaker("employeeService");
+        cb.transitionToOpenState();
+        employeeValidationService.validateEmployee(12345L);
+
+        // Act
+        cb.transitionToHalfOpenState();
+
+        // Assert: reloaded in the background through the breaker
+        Thread.sleep(1000);
+        verify(2, getRequestedFor(urlEqualTo("/employees/12345")));
+    }
+}
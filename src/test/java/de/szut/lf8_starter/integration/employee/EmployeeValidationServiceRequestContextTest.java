@@ -0,0 +1,92 @@
+package de.szut.lf8_starter.integration.employee;
+
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.replica.EmployeeReplica;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests für die Wiederverwendung geladener Mitarbeiter innerhalb eines Requests
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeValidationServiceRequestContextTest {
+
+    @Mock
+    private EmployeeLookupCache employeeLookupCache;
+
+    @Mock
+    private EmployeeReplica employeeReplica;
+
+    @Mock
+    private StaleEmployeeFallback staleEmployeeFallback;
+
+    private EmployeeValidationService employeeValidationService;
+
+    private final EmployeeDto employee = new EmployeeDto(12345L, "Max", "Mustermann", "max@hitec.de", "ACTIVE");
+
+    @BeforeEach
+    void setUp() {
+        employeeValidationService = new EmployeeValidationService(
+            employeeLookupCache, new EmployeeRequestContext(), employeeReplica, staleEmployeeFallback,
+            CircuitBreakerRegistry.ofDefaults());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void sameRequest_ValidationAndName_LoadEmployeeOnce() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(employeeLookupCache.getEmployee(12345L)).thenReturn(employee);
+
+        // Act
+        assertTrue(employeeValidationService.validateEmployee(12345L));
+        String name = employeeValidationService.getEmployeeName(12345L);
+
+        // Assert
+        assertEquals("Max Mustermann", name);
+        verify(employeeLookupCache, times(1)).getEmployee(12345L);
+    }
+
+    @Test
+    void newRequest_LoadsEmployeeAgain() {
+        // Arrange
+        when(employeeLookupCache.getEmployee(12345L)).thenReturn(employee);
+
+        // Act
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        employeeValidationService.validateEmployee(12345L);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        employeeValidationService.getEmployeeName(12345L);
+
+        // Assert
+        verify(employeeLookupCache, times(2)).getEmployee(12345L);
+    }
+
+    @Test
+    void noRequest_NothingIsRemembered() {
+        // Arrange
+        when(employeeLookupCache.getEmployee(12345L)).thenReturn(employee);
+
+        // Act
+        employeeValidationService.validateEmployee(12345L);
+        employeeValidationService.getEmployeeName(12345L);
+
+        // Assert
+        verify(employeeLookupCache, times(2)).getEmployee(12345L);
+    }
+}
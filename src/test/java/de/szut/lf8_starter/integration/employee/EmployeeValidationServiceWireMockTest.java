@@ -3,12 +3,17 @@ package de.szut.lf8_starter.integration.employee;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import de.szut.lf8_starter.exceptionHandling.*;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.List;
+import java.util.Map;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,16 +27,25 @@ import static org.junit.jupiter.api.Assertions.*;
     "employee.service.url=http://localhost:8081",
     "resilience4j.circuitbreaker.instances.employeeService.sliding-window-size=5",
     "resilience4j.circuitbreaker.instances.employeeService.minimum-number-of-calls=3",
-    "resilience4j.timelimiter.instances.employeeService.timeout-duration=2s"
+    "resilience4j.timelimiter.instances.employeeService.timeout-duration=2s",
+    "employee.batch.max-ids=2"
 })
 class EmployeeValidationServiceWireMockTest {
 
     @Autowired
     private EmployeeValidationService employeeValidationService;
 
+    @Autowired
+    private EmployeeLookupCache employeeLookupCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         WireMock.reset();
+        // Tests reuse employee IDs with different stubs
+        employeeLookupCache.invalidateAll();
     }
 
     @Test
@@ -242,5 +256,159 @@ class EmployeeValidationServiceWireMockTest {
         // Assert
         assertEquals("Employee 12345", name);
     }
-}
 
+    @Test
+    void validateEmployee_And_GetEmployeeName_ShareOneCachedLookup() {
+        // Arrange
+        Long employeeId = 12345L;
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "employeeId": 12345,
+                        "firstName": "Max",
+                        "lastName": "Mustermann",
+                        "email": "max.mustermann@hitec.de",
+                        "status": "ACTIVE"
+                    }
+                    """)));
+
+        // Act
+        assertTrue(employeeValidationService.validateEmployee(employeeId));
+        assertTrue(employeeValidationService.validateEmployee(employeeId));
+        String name = employeeValidationService.getEmployeeName(employeeId);
+
+        // Assert: only the first lookup reaches the Employee Service
+        assertEquals("Max Mustermann", name);
+        verify(1, getRequestedFor(urlEqualTo("/employees/12345")));
+    }
+
+    @Test
+    void validateEmployee_NotFound_IsCachedNegatively() {
+        // Arrange
+        Long employeeId = 99999L;
+        stubFor(get(urlEqualTo("/employees/99999"))
+            .willReturn(aResponse()
+                .withStatus(404)));
+
+        // Act & Assert
+        assertThrows(EmployeeNotFoundException.class, () -> employeeValidationService.validateEmployee(employeeId));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeValidationService.validateEmployee(employeeId));
+        verify(1, getRequestedFor(urlEqualTo("/employees/99999")));
+    }
+
+    @Test
+    void validateEmployee_ServerError_IsNotCached() {
+        // Arrange
+        Long employeeId = 12345L;
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(500)));
+        assertThrows(EmployeeServiceUnavailableException.class, () -> employeeValidationService.validateEmployee(employeeId));
+
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "employeeId": 12345,
+                        "firstName": "Max",
+                        "lastName": "Mustermann",
+                        "email": "max.mustermann@hitec.de",
+                        "status": "ACTIVE"
+                    }
+                    """)));
+
+        // Act & Assert: the next call goes to the service again and succeeds
+        assertTrue(employeeValidationService.validateEmployee(employeeId));
+    }
+
+    @Test
+    void getEmployees_SplitsIntoChunksAndMergesResults() {
+        // Arrange: max-ids=2, so three IDs need two batch calls; 3 is unknown
+        stubFor(get(urlEqualTo("/employees?ids=1&ids=2"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    [
+                        {"employeeId": 1, "firstName": "Max", "lastName": "Mustermann", "email": "max@hitec.de", "status": "ACTIVE"},
+                        {"employeeId": 2, "firstName": "Anna", "lastName": "Schmidt", "email": "anna@hitec.de", "status": "ACTIVE"}
+                    ]
+                    """)));
+        stubFor(get(urlEqualTo("/employees?ids=3"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("[]")));
+
+        // Act
+        Map<Long, EmployeeDto> employees = employeeValidationService.getEmployees(List.of(1L, 2L, 3L));
+        Map<Long, EmployeeDto> again = employeeValidationService.getEmployees(List.of(2L, 3L));
+
+        // Assert
+        assertEquals(2, employees.size());
+        assertEquals("Max", employees.get(1L).getFirstName());
+        assertEquals("Schmidt", employees.get(2L).getLastName());
+        assertFalse(employees.containsKey(3L));
+        assertEquals(1, again.size());
+        verify(1, getRequestedFor(urlEqualTo("/employees?ids=1&ids=2")));
+        verify(1, getRequestedFor(urlEqualTo("/employees?ids=3")));
+    }
+
+    @Test
+    void getEmployees_UsesCachedSingleLookups() {
+        // Arrange
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "employeeId": 12345,
+                        "firstName": "Max",
+                        "lastName": "Mustermann",
+                        "email": "max.mustermann@hitec.de",
+                        "status": "ACTIVE"
+                    }
+                    """)));
+        employeeValidationService.validateEmployee(12345L);
+
+        // Act
+        Map<Long, EmployeeDto> employees = employeeValidationService.getEmployees(List.of(12345L));
+
+        // Assert: no batch call needed
+        assertEquals("Max", employees.get(12345L).getFirstName());
+        verify(0, getRequestedFor(urlPathEqualTo("/employees")));
+    }
+
+    @Test
+    void feignConnectionPool_IsPooledAndExportsMetrics() {
+        // Arrange
+        stubFor(get(urlEqualTo("/employees/12345"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "employeeId": 12345,
+                        "firstName": "Max",
+                        "lastName": "Mustermann",
+                        "email": "max.mustermann@hitec.de",
+                        "status": "ACTIVE"
+                    }
+                    """)));
+
+        // Act
+        employeeValidationService.validateEmployee(12345L);
+
+        // Assert: pool limits from application.yml, the connection went back to the pool for reuse
+        assertEquals(200.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+        assertEquals(50.0, meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").gauge().value());
+        assertEquals(0.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+            .tag("state", "leased").gauge().value());
+    }
+}
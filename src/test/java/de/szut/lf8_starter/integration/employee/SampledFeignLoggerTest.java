@@ -0,0 +1,125 @@
+package de.szut.lf8_starter.integration.employee;
+
+import feign.Logger;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für das gesampelte Feign-Call-Log
+ */
+class SampledFeignLoggerTest {
+
+    private static final String BODY = "{\"employeeId\": 12345, \"status\": \"ACTIVE\"}";
+
+    private FeignCallLogSettings settings;
+    private SampledFeignLogger logger;
+
+    @BeforeEach
+    void setUp() {
+        settings = new FeignCallLogSettings(1.0);
+        logger = new SampledFeignLogger(settings);
+    }
+
+    @Test
+    void defaultMode_DoesNotReadTheBody() throws IOException {
+        // Arrange
+        AtomicBoolean bodyRead = new AtomicBoolean(false);
+        Request request = request("http://employee-service/employees/12345");
+        Response response = response(request, trackingStream(bodyRead));
+
+        // Act
+        logger.logRequest("EmployeeServiceClient#getEmployee(Long)", Logger.Level.BASIC, request);
+        Response logged = logger.logAndRebufferResponse("EmployeeServiceClient#getEmployee(Long)",
+            Logger.Level.BASIC, response, 12);
+
+        // Assert: same response, stream untouched
+        assertSame(response, logged);
+        assertFalse(bodyRead.get());
+    }
+
+    @Test
+    void fullBodiesForEmployee_RebuffersBodyOnlyForThatEmployee() throws IOException {
+        // Arrange
+        settings.setFullBodyEmployeeId(12345L);
+        Request watched = request("http://employee-service/employees/12345");
+        Request other = request("http://employee-service/employees/4711");
+
+        // Act
+        logger.logRequest("EmployeeServiceClient#getEmployee(Long)", Logger.Level.BASIC, watched);
+        Response watchedResponse = logger.logAndRebufferResponse("EmployeeServiceClient#getEmployee(Long)",
+            Logger.Level.BASIC, response(watched, new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8))), 12);
+
+        AtomicBoolean otherBodyRead = new AtomicBoolean(false);
+        logger.logRequest("EmployeeServiceClient#getEmployee(Long)", Logger.Level.BASIC, other);
+        logger.logAndRebufferResponse("EmployeeServiceClient#getEmployee(Long)",
+            Logger.Level.BASIC, response(other, trackingStream(otherBodyRead)), 12);
+
+        // Assert: the logged body is still readable for the decoder
+        assertEquals(BODY, Util.toString(watchedResponse.body().asReader(StandardCharsets.UTF_8)));
+        assertFalse(otherBodyRead.get());
+    }
+
+    @Test
+    void rates_AreClamped() {
+        settings.setSampleRate(5.0);
+        settings.setFullBodyRate(-1.0);
+
+        assertEquals(1.0, settings.getSampleRate());
+        assertEquals(0.0, settings.getFullBodyRate());
+    }
+
+    private static Request request(String url) {
+        return Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, new RequestTemplate());
+    }
+
+    private static Response response(Request request, InputStream body) {
+        return Response.builder()
+            .status(200)
+            .reason("OK")
+            .request(request)
+            .headers(Map.of())
+            .body(body, BODY.length())
+            .build();
+    }
+
+    private static InputStream trackingStream(AtomicBoolean read) {
+        return new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read() {
+                read.set(true);
+                return super.read();
+            }
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                read.set(true);
+                return super.read(b, off, len);
+            }
+
+            @Override
+            public int read(byte[] b) throws IOException {
+                read.set(true);
+                return super.read(b);
+            }
+
+            @Override
+            public synchronized byte[] readAllBytes() {
+                read.set(true);
+                return super.readAllBytes();
+            }
+        };
+    }
+}
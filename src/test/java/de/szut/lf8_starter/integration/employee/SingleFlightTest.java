@@ -0,0 +1,104 @@
+package de.szut.lf8_starter.integration.employee;
+
+import de.szut.lf8_starter.exceptionHandling.EmployeeServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für das Zusammenfassen gleichzeitiger Employee-Service-Aufrufe
+ */
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("getEmployee", meterRegistry);
+    }
+
+    @Test
+    void concurrentCallers_ShareOneCall() throws Exception {
+        // Arrange: the first call blocks until the second caller has joined it
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger remoteCalls = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.execute(12345L, () -> {
+            remoteCalls.incrementAndGet();
+            await(release);
+            return "Max Mustermann";
+        }));
+        waitUntil(() -> remoteCalls.get() == 1);
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> singleFlight.execute(12345L, () -> {
+            remoteCalls.incrementAndGet();
+            return "second call";
+        }));
+        waitUntil(() -> count("coalesced") == 1);
+        release.countDown();
+
+        // Assert
+        assertEquals("Max Mustermann", first.get(5, TimeUnit.SECONDS));
+        assertEquals("Max Mustermann", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, remoteCalls.get());
+        assertEquals(1, count("executed"));
+    }
+
+    @Test
+    void finishedCall_IsNotReused() {
+        // Act
+        singleFlight.execute(12345L, () -> "first");
+        String second = singleFlight.execute(12345L, () -> "second");
+
+        // Assert
+        assertEquals("second", second);
+        assertEquals(2, count("executed"));
+        assertEquals(0, count("coalesced"));
+    }
+
+    @Test
+    void failure_IsRethrownAndNotRemembered() {
+        // Act & Assert
+        assertThrows(EmployeeServiceUnavailableException.class, () -> singleFlight.execute(12345L, () -> {
+            throw new EmployeeServiceUnavailableException(503);
+        }));
+        assertEquals("ok", singleFlight.execute(12345L, () -> "ok"));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("employee.lookup.singleflight")
+            .tag("operation", "getEmployee")
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not reached in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
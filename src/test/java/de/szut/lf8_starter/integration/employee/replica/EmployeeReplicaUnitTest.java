@@ -0,0 +1,191 @@
+package de.szut.lf8_starter.integration.employee.replica;
+
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
+import de.szut.lf8_starter.integration.employee.EmployeeServiceClient;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeQualificationsResponseDto;
+import de.szut.lf8_starter.integration.employee.dto.QualificationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests für die lokale Mitarbeiter-Replika (Abgleich und Lookups)
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeReplicaUnitTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T10:00:00Z");
+
+    @Mock
+    private ReplicatedEmployeeRepository repository;
+
+    @Mock
+    private EmployeeServiceClient employeeServiceClient;
+
+    @Mock
+    private Clock clock;
+
+    private EmployeeReplica replica;
+
+    private final EmployeeDto employee = new EmployeeDto(12345L, "Max", "Mustermann", "max@hitec.de", "ACTIVE");
+    private final QualificationDto java = new QualificationDto("Java", "Senior", LocalDate.of(2030, 1, 1));
+
+    @BeforeEach
+    void setUp() {
+        replica = new EmployeeReplica(repository, employeeServiceClient, true, Duration.ofHours(1), Duration.ofHours(24), 100, clock);
+    }
+
+    @Test
+    void disabled_NeverAnswersAndNeverTouchesTheDatabase() {
+        replica = new EmployeeReplica(repository, employeeServiceClient, false, Duration.ofHours(1), Duration.ofHours(24), 100, clock);
+
+        assertTrue(replica.findEmployee(12345L).isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void beforeFirstSync_NoAnswer() {
+        assertTrue(replica.findEmployee(12345L).isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void sync_NewEmployeeInDirectory_IsReplicated() {
+        // Arrange: replica is empty, the directory knows one employee
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findAllEmployeeIds()).thenReturn(List.of());
+        when(employeeServiceClient.getAllEmployees()).thenReturn(List.of(employee));
+        when(employeeServiceClient.getQualifications(12345L))
+            .thenReturn(new EmployeeQualificationsResponseDto(12345L, List.of(java)));
+        when(repository.findAllById(List.of(12345L))).thenReturn(List.of());
+
+        // Act
+        EmployeeReplica.SyncResult result = replica.sync();
+
+        // Assert
+        assertEquals(new EmployeeReplica.SyncResult(1, 0), result);
+        verify(repository).saveAll(argThat(saved -> {
+            ReplicatedEmployeeEntity entity = ((List<ReplicatedEmployeeEntity>) saved).getFirst();
+            return entity.getEmployeeId() == 12345L
+                && entity.getQualifications().equals(List.of(new ReplicatedQualification("Java", "Senior", LocalDate.of(2030, 1, 1))));
+        }));
+        verify(employeeServiceClient, never()).getEmployees(any());
+    }
+
+    @Test
+    void sync_UnchangedEmployeeIsNotWritten_UnknownEmployeeIsRemoved() {
+        // Arrange
+        ReplicatedEmployeeEntity current = new ReplicatedEmployeeEntity(12345L);
+        current.apply(employee, List.of(java), NOW);
+        ReplicatedEmployeeEntity removed = new ReplicatedEmployeeEntity(99999L);
+        removed.apply(new EmployeeDto(99999L, "Alt", "Mitarbeiter", null, "ACTIVE"), List.of(), NOW);
+
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findAllEmployeeIds()).thenReturn(List.of(99999L, 12345L));
+        when(repository.findAllById(List.of(12345L, 99999L))).thenReturn(List.of(current, removed));
+        when(employeeServiceClient.getAllEmployees()).thenReturn(List.of(employee));
+
+        // Act
+        EmployeeReplica.SyncResult result = replica.sync();
+
+        // Assert: unchanged directory entry with fresh qualifications - no qualification call
+        assertEquals(new EmployeeReplica.SyncResult(0, 1), result);
+        verify(repository).saveAll(List.of());
+        verify(repository).deleteAll(List.of(removed));
+        verify(employeeServiceClient, never()).getQualifications(any());
+    }
+
+    @Test
+    void sync_ChangedOrOutdatedEmployee_QualificationsFetchedAgain() {
+        // Arrange: 12345 changed in the directory, 2 unchanged but qualifications older than 24 hours
+        ReplicatedEmployeeEntity changed = new ReplicatedEmployeeEntity(12345L);
+        changed.apply(new EmployeeDto(12345L, "Max", "Mustermann", "max@hitec.de", "INACTIVE"), List.of(java), NOW);
+        EmployeeDto other = new EmployeeDto(2L, "Anna", "Schmidt", null, "ACTIVE");
+        ReplicatedEmployeeEntity outdated = new ReplicatedEmployeeEntity(2L);
+        outdated.apply(other, List.of(), NOW.minus(Duration.ofHours(25)));
+
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findAllEmployeeIds()).thenReturn(List.of(2L, 12345L));
+        when(repository.findAllById(List.of(2L, 12345L))).thenReturn(List.of(outdated, changed));
+        when(employeeServiceClient.getAllEmployees()).thenReturn(List.of(employee, other));
+        when(employeeServiceClient.getQualifications(12345L))
+            .thenReturn(new EmployeeQualificationsResponseDto(12345L, List.of(java)));
+        when(employeeServiceClient.getQualifications(2L))
+            .thenReturn(new EmployeeQualificationsResponseDto(2L, List.of(java)));
+
+        // Act
+        EmployeeReplica.SyncResult result = replica.sync();
+
+        // Assert
+        assertEquals(new EmployeeReplica.SyncResult(2, 0), result);
+        assertEquals("ACTIVE", changed.getStatus());
+        assertEquals(NOW, outdated.getQualificationsSyncedAt());
+        assertEquals(List.of(new ReplicatedQualification("Java", "Senior", LocalDate.of(2030, 1, 1))),
+            outdated.getQualifications());
+    }
+
+    @Test
+    void sync_QualificationsNotFound_ReplicatedWithoutQualifications() {
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findAllEmployeeIds()).thenReturn(List.of(12345L));
+        when(repository.findAllById(List.of(12345L))).thenReturn(List.of());
+        when(employeeServiceClient.getAllEmployees()).thenReturn(List.of(employee));
+        when(employeeServiceClient.getQualifications(12345L)).thenThrow(new EmployeeNotFoundException(12345L));
+
+        assertEquals(new EmployeeReplica.SyncResult(1, 0), replica.sync());
+    }
+
+    @Test
+    void replicaOlderThanMaxAge_IsNotUsed() {
+        // Arrange
+        ReplicatedEmployeeEntity current = new ReplicatedEmployeeEntity(12345L);
+        current.apply(employee, List.of(java), NOW);
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findAllEmployeeIds()).thenReturn(List.of());
+        replica.sync();
+        when(repository.findById(12345L)).thenReturn(Optional.of(current));
+
+        // Act & Assert
+        assertEquals(Optional.of(employee), replica.findEmployee(12345L));
+        assertEquals(List.of(java), replica.findQualifications(12345L).orElseThrow().getQualifications());
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(2)));
+        assertTrue(replica.findEmployee(12345L).isEmpty());
+        verify(repository, times(2)).findById(any());
+    }
+
+    @Test
+    void sync_RebuildsQualificationIndex() {
+        // Arrange
+        ReplicatedEmployeeEntity active = new ReplicatedEmployeeEntity(12345L);
+        active.apply(employee, List.of(java, new QualificationDto("SQL", "Junior", LocalDate.of(2025, 6, 30))), NOW);
+        ReplicatedEmployeeEntity inactive = new ReplicatedEmployeeEntity(2L);
+        inactive.apply(new EmployeeDto(2L, "Ex", "Mitarbeiter", null, "INACTIVE"), List.of(java), NOW);
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findAllEmployeeIds()).thenReturn(List.of());
+        when(repository.findAllWithQualifications()).thenReturn(List.of(active, inactive));
+
+        // Act
+        replica.sync();
+
+        // Assert: case-insensitive, only active employees, validity checked against the given date
+        assertEquals(List.of(employee), replica.findQualified("java", LocalDate.of(2029, 12, 31)).orElseThrow()
+            .stream().map(EmployeeReplica.QualifiedEmployee::employee).toList());
+        assertEquals(1, replica.findQualified("SQL", LocalDate.of(2025, 6, 30)).orElseThrow().size());
+        assertTrue(replica.findQualified("SQL", LocalDate.of(2025, 7, 1)).orElseThrow().isEmpty());
+    }
+}
@@ -16,6 +16,9 @@ class ProjectRepositoryTest {
     @Autowired
     private ProjectRepository repository;
 
+    @Autowired
+    private ProjectAssignmentRepository assignmentRepository;
+
     @Test
     void shouldSaveAndLoadProject() {
         // Given - Create project
@@ -165,6 +168,44 @@ class ProjectRepositoryTest {
         assertThat(repository.findById(gespeichert.getId())).isEmpty();
     }
 
+    @Test
+    void sollNurUeberschneidendeProjekteDesMitarbeitersFinden() {
+        // Given - Mitarbeiter 7 in zwei Projekten, Mitarbeiter 8 in einem überlappenden Projekt
+        ProjectEntity ziel = repository.save(erstelleProjektImZeitraum("Ziel", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 5, 31)));
+        ProjectEntity ueberlappend = repository.save(erstelleProjektImZeitraum("Überlappend", LocalDate.of(2025, 5, 1), LocalDate.of(2025, 8, 31)));
+        ProjectEntity spaeter = repository.save(erstelleProjektImZeitraum("Später", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 9, 30)));
+        ProjectEntity fremd = repository.save(erstelleProjektImZeitraum("Fremd", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)));
+
+        assignmentRepository.save(new ProjectAssignmentEntity(ziel, 7L, "Java", LocalDate.now()));
+        assignmentRepository.save(new ProjectAssignmentEntity(ueberlappend, 7L, "Java", LocalDate.now()));
+        assignmentRepository.save(new ProjectAssignmentEntity(spaeter, 7L, "Java", LocalDate.now()));
+        assignmentRepository.save(new ProjectAssignmentEntity(fremd, 8L, "Java", LocalDate.now()));
+
+        // When - Konflikte von Mitarbeiter 7 im Zeitraum des Zielprojekts, ohne das Zielprojekt selbst
+        List<ProjectEntity> konflikte = repository.findConflictingProjectsOfEmployee(
+                7L, ziel.getId(), ziel.getStartDate(), ziel.getPlannedEndDate());
+
+        // Then
+        assertThat(konflikte)
+                .extracting(ProjectEntity::getDesignation)
+                .containsExactly("Überlappend");
+    }
+
+    @Test
+    void sollGefilterteIdsAufsteigendUndBegrenztFinden() {
+        // Given - Drei Projekte für Kunde 1, eines für Kunde 2
+        Long id1 = repository.save(erstelleTestProjekt("Projekt 1", 1L)).getId();
+        Long id2 = repository.save(erstelleTestProjekt("Projekt 2", 1L)).getId();
+        repository.save(erstelleTestProjekt("Projekt 3", 2L));
+        repository.save(erstelleTestProjekt("Projekt 4", 1L));
+
+        // When - Nur IDs für Kunde 1, höchstens zwei
+        List<Long> ids = repository.findIds(ProjectSpecifications.hasCustomerId(1L), 2);
+
+        // Then
+        assertThat(ids).containsExactly(id1, id2);
+    }
+
     // Helper-Methoden
     private ProjectEntity erstelleTestProjekt(String bezeichnung, Long kundenId) {
         return new ProjectEntity(
@@ -201,4 +242,16 @@ class ProjectRepositoryTest {
                 startDatum.plusDays(30)
         );
     }
-}
\ No newline at end of file
+
+    private ProjectEntity erstelleProjektImZeitraum(String bezeichnung, LocalDate start, LocalDate ende) {
+        return new ProjectEntity(
+                bezeichnung,
+                1L,
+                1L,
+                "Max Mustermann",
+                "Test",
+                start,
+                ende
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package de.szut.lf8_starter.project.integrationtest;
 
+import de.szut.lf8_starter.project.ProjectAssignmentEntity;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectRepository;
 import de.szut.lf8_starter.testcontainers.AbstractIntegrationTest;
@@ -20,8 +22,12 @@ class ProjectControllerRemoveEmployeeIntegrationTest extends AbstractIntegration
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectAssignmentRepository assignmentRepository;
+
     @AfterEach
     void tearDown() {
+        assignmentRepository.deleteAll();
         projectRepository.deleteAll();
     }
 
@@ -44,10 +50,8 @@ class ProjectControllerRemoveEmployeeIntegrationTest extends AbstractIntegration
         project.setCustomerId(1L);
         project.setStartDate(java.time.LocalDate.now());
         project.setPlannedEndDate(java.time.LocalDate.now().plusDays(30));
-        project.setEmployeeIds(new java.util.HashSet<>(java.util.List.of(employeeId)));
-        project.setEmployeeQualifications(new java.util.HashMap<>());
-        project.getEmployeeQualifications().put(employeeId, "DEV");
         ProjectEntity savedProject = projectRepository.save(project);
+        assignmentRepository.save(new ProjectAssignmentEntity(savedProject, employeeId, "DEV", java.time.LocalDate.now()));
         Long projectId = savedProject.getId();
 
         mockMvc.perform(delete("/projects/{projectId}/employees/{employeeId}", projectId, employeeId)
@@ -83,8 +87,6 @@ class ProjectControllerRemoveEmployeeIntegrationTest extends AbstractIntegration
         project.setCustomerId(1L);
         project.setStartDate(java.time.LocalDate.now());
         project.setPlannedEndDate(java.time.LocalDate.now().plusDays(30));
-        project.setEmployeeIds(new java.util.HashSet<>());
-        project.setEmployeeQualifications(new java.util.HashMap<>());
         ProjectEntity savedProject = projectRepository.save(project);
         Long projectId = savedProject.getId();
 
@@ -0,0 +1,98 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.integration.employee.replica.EmployeeReplica;
+import de.szut.lf8_starter.integration.employee.replica.EmployeeReplica.QualifiedEmployee;
+import de.szut.lf8_starter.project.EmployeeAvailabilityService;
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeAvailabilityServiceUnitTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 5, 31);
+
+    @Mock
+    private EmployeeReplica employeeReplica;
+
+    @Mock
+    private EmployeeIntervalIndex intervalIndex;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private EmployeeAvailabilityService availabilityService;
+
+    private QualifiedEmployee schmidt;
+    private QualifiedEmployee meier;
+
+    @BeforeEach
+    void setUp() {
+        schmidt = new QualifiedEmployee(new EmployeeDto(1L, "Anna", "Schmidt", null, "ACTIVE"), "Senior", null);
+        meier = new QualifiedEmployee(new EmployeeDto(2L, "Jonas", "Meier", null, "ACTIVE"), "Junior", null);
+    }
+
+    @Test
+    @DisplayName("findAvailable - busy employees from the interval index are filtered out")
+    void findAvailable_withIndex() {
+        QualifiedEmployee busy = new QualifiedEmployee(new EmployeeDto(3L, "Lena", "Busy", null, "ACTIVE"), "Senior", null);
+        when(employeeReplica.findQualified("Java", TO)).thenReturn(Optional.of(List.of(schmidt, busy, meier)));
+        when(intervalIndex.isReady()).thenReturn(true);
+        when(intervalIndex.findOverlappingProjectIds(anyLong(), eq(FROM), eq(TO), isNull()))
+            .thenAnswer(invocation -> invocation.getArgument(0).equals(3L) ? List.of(7L) : List.of());
+
+        List<QualifiedEmployee> result = availabilityService.findAvailable("Java", FROM, TO);
+
+        assertThat(result).containsExactly(meier, schmidt);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("findAvailable - without index the busy employees come from one query")
+    void findAvailable_withoutIndex() {
+        when(employeeReplica.findQualified("Java", TO)).thenReturn(Optional.of(List.of(schmidt, meier)));
+        when(intervalIndex.isReady()).thenReturn(false);
+        when(projectRepository.findBusyEmployeeIds(FROM, TO)).thenReturn(Set.of(2L));
+
+        assertThat(availabilityService.findAvailable("Java", FROM, TO)).containsExactly(schmidt);
+    }
+
+    @Test
+    @DisplayName("findAvailable - no replica - 503")
+    void findAvailable_noReplica() {
+        when(employeeReplica.findQualified("Java", TO)).thenReturn(Optional.empty());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> availabilityService.findAvailable("Java", FROM, TO));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("findAvailable - from after to - 400")
+    void findAvailable_invalidPeriod() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> availabilityService.findAvailable("Java", TO, FROM));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+}
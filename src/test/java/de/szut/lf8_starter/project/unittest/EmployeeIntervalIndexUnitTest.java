@@ -0,0 +1,146 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeIntervalIndex Tests")
+class EmployeeIntervalIndexUnitTest {
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    private EmployeeIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeIntervalIndex(assignmentRepository, true);
+    }
+
+    @Test
+    @DisplayName("not ready before the first rebuild")
+    void notReadyBeforeRebuild() {
+        assertThat(index.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("rebuild - finds overlapping projects of the employee only, ordered by start")
+    void rebuild_FindsOverlaps() {
+        when(assignmentRepository.findAllAssignmentPeriods()).thenReturn(List.of(
+            period(7L, 1L, "2025-01-01", "2025-12-31"),
+            period(7L, 2L, "2025-02-01", "2025-02-28"),
+            period(7L, 3L, "2025-06-01", "2025-06-30"),
+            period(8L, 4L, "2025-02-01", "2025-02-28")
+        ));
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-02-15"), date("2025-03-15"), 99L))
+            .containsExactly(1L, 2L);
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-02-15"), date("2025-03-15"), 1L))
+            .containsExactly(2L);
+        assertThat(index.findOverlappingProjectIds(9L, date("2025-01-01"), date("2025-12-31"), 99L))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("boundaries - touching ranges overlap, adjacent ranges do not")
+    void boundaries() {
+        when(assignmentRepository.findAllAssignmentPeriods()).thenReturn(List.of(
+            period(7L, 1L, "2025-03-01", "2025-03-31")
+        ));
+        index.rebuild();
+
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-03-31"), date("2025-04-30"), 99L)).containsExactly(1L);
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-02-01"), date("2025-03-01"), 99L)).containsExactly(1L);
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-04-01"), date("2025-04-30"), 99L)).isEmpty();
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-01-01"), date("2025-02-28"), 99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("long early interval is found behind later short ones")
+    void longIntervalBehindShortOnes() {
+        when(assignmentRepository.findAllAssignmentPeriods()).thenReturn(List.of(
+            period(7L, 1L, "2025-01-01", "2025-12-31"),
+            period(7L, 2L, "2025-02-01", "2025-02-05"),
+            period(7L, 3L, "2025-03-01", "2025-03-05")
+        ));
+        index.rebuild();
+
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-10-01"), date("2025-10-31"), 99L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("changes outside a transaction are applied immediately")
+    void changesAreApplied() {
+        when(assignmentRepository.findAllAssignmentPeriods()).thenReturn(List.of());
+        index.rebuild();
+
+        index.assignmentAdded(7L, 1L, date("2025-01-01"), date("2025-01-31"));
+        index.assignmentAdded(7L, 2L, date("2025-05-01"), date("2025-05-31"));
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-01-15"), date("2025-05-15"), 99L)).containsExactly(1L, 2L);
+
+        index.projectDatesChanged(1L, date("2025-07-01"), date("2025-07-31"));
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-01-15"), date("2025-05-15"), 99L)).containsExactly(2L);
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-07-15"), date("2025-07-16"), 99L)).containsExactly(1L);
+
+        index.assignmentRemoved(7L, 2L);
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-01-15"), date("2025-05-15"), 99L)).isEmpty();
+
+        index.projectRemoved(1L);
+        assertThat(index.findOverlappingProjectIds(7L, date("2025-01-01"), date("2025-12-31"), 99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("disabled - never ready, no database access")
+    void disabled() {
+        EmployeeIntervalIndex disabled = new EmployeeIntervalIndex(assignmentRepository, false);
+
+        disabled.rebuildOnStartup();
+        disabled.assignmentAdded(7L, 1L, date("2025-01-01"), date("2025-01-31"));
+
+        assertThat(disabled.isReady()).isFalse();
+        verifyNoInteractions(assignmentRepository);
+    }
+
+    private static LocalDate date(String iso) {
+        return LocalDate.parse(iso);
+    }
+
+    private static ProjectAssignmentRepository.AssignmentPeriod period(Long employeeId, Long projectId, String start, String end) {
+        return new ProjectAssignmentRepository.AssignmentPeriod() {
+            @Override
+            public Long getEmployeeId() {
+                return employeeId;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return date(start);
+            }
+
+            @Override
+            public LocalDate getPlannedEndDate() {
+                return date(end);
+            }
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
+import de.szut.lf8_starter.integration.employee.EmployeeValidationService;
+import de.szut.lf8_starter.integration.employee.dto.EmployeeDto;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceUnitTest {
+
+    @Mock
+    private EmployeeValidationService employeeValidationService;
+
+    @InjectMocks
+    private EmployeeService employeeService;
+
+    @Test
+    @DisplayName("findActiveEmployeeIds - one batch lookup, inactive and invalid IDs are left out")
+    void findActiveEmployeeIds_batchLookup() {
+        when(employeeValidationService.getEmployees(Set.of(1L, 2L))).thenReturn(Map.of(
+            1L, new EmployeeDto(1L, "Max", "Mustermann", null, "ACTIVE"),
+            2L, new EmployeeDto(2L, "Anna", "Schmidt", null, "INACTIVE")));
+
+        Set<Long> active = employeeService.findActiveEmployeeIds(Arrays.asList(1L, 2L, 1L, null, 0L));
+
+        assertThat(active).containsExactly(1L);
+        verify(employeeValidationService, never()).validateEmployee(any());
+    }
+
+    @Test
+    @DisplayName("findActiveEmployeeIds - IDs missing from the batch result are checked one by one")
+    void findActiveEmployeeIds_missingIdsCheckedSingly() {
+        when(employeeValidationService.getEmployees(Set.of(1L, 99999L))).thenReturn(Map.of());
+        when(employeeValidationService.validateEmployee(1L)).thenReturn(true);
+        when(employeeValidationService.validateEmployee(99999L)).thenThrow(new EmployeeNotFoundException(99999L));
+
+        Set<Long> active = employeeService.findActiveEmployeeIds(List.of(1L, 99999L));
+
+        assertThat(active).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("findActiveEmployeeIds - no valid IDs - no remote call")
+    void findActiveEmployeeIds_noIds() {
+        assertThat(employeeService.findActiveEmployeeIds(Arrays.asList(null, -1L))).isEmpty();
+        verifyNoInteractions(employeeValidationService);
+    }
+}
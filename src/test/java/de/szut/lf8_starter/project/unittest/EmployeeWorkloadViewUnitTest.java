@@ -0,0 +1,118 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.project.EmployeeWeekWorkloadEntity;
+import de.szut.lf8_starter.project.EmployeeWeekWorkloadRepository;
+import de.szut.lf8_starter.project.EmployeeWorkloadView;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeWorkloadView Tests")
+class EmployeeWorkloadViewUnitTest {
+
+    @Mock
+    private EmployeeWeekWorkloadRepository workloadRepository;
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private EmployeeWorkloadView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new EmployeeWorkloadView(workloadRepository, assignmentRepository, transactionTemplate, 2, 4);
+    }
+
+    @Test
+    @DisplayName("assignmentAdded - one atomic increment per touched week with the covered workdays")
+    void assignmentAdded_CountsWorkdaysPerWeek() {
+        // Wednesday to Tuesday two weeks later
+        view.assignmentAdded(7L, date("2025-03-05"), date("2025-03-18"));
+
+        InOrder inOrder = inOrder(workloadRepository);
+        inOrder.verify(workloadRepository).addToWeek(7L, date("2025-03-03"), 1, 3);
+        inOrder.verify(workloadRepository).addToWeek(7L, date("2025-03-10"), 1, 5);
+        inOrder.verify(workloadRepository).addToWeek(7L, date("2025-03-17"), 1, 2);
+        // Nothing decreased, so no week can have become empty
+        verify(workloadRepository, never()).deleteEmptyWeeks(any(), any());
+    }
+
+    @Test
+    @DisplayName("projectDatesChanged - only the weeks at the edges are written, emptied weeks removed")
+    void projectDatesChanged_WritesEdgeWeeksOnly() {
+        // Four weeks moved by one week, two employees in ascending order
+        view.projectDatesChanged(List.of(8L, 7L), date("2025-03-03"), date("2025-03-30"), date("2025-03-10"), date("2025-04-06"));
+
+        InOrder inOrder = inOrder(workloadRepository);
+        for (Long employeeId : List.of(7L, 8L)) {
+            inOrder.verify(workloadRepository).addToWeek(employeeId, date("2025-03-03"), -1, -5);
+            inOrder.verify(workloadRepository).addToWeek(employeeId, date("2025-03-31"), 1, 5);
+            inOrder.verify(workloadRepository).deleteEmptyWeeks(employeeId, Set.of(date("2025-03-03"), date("2025-03-31")));
+        }
+        verifyNoMoreInteractions(workloadRepository);
+    }
+
+    @Test
+    @DisplayName("projectDatesChanged - unchanged weeks cause no database access")
+    void projectDatesChanged_SameWeeks_NoAccess() {
+        // Saturday to Sunday shifts within the same weeks do not change any workday
+        view.projectDatesChanged(List.of(7L), date("2025-03-01"), date("2025-03-16"), date("2025-03-02"), date("2025-03-15"));
+
+        verifyNoInteractions(workloadRepository);
+    }
+
+    @Test
+    @DisplayName("readHeatmap - dense weeks, missing employees and weeks are zero, request order kept")
+    void readHeatmap_FillsGaps() {
+        when(workloadRepository.findWeeks(List.of(8L, 7L), date("2025-03-03"), date("2025-03-17")))
+            .thenReturn(List.of(row(7L, "2025-03-10", 2, 5)));
+
+        EmployeeWorkloadView.WorkloadHeatmap heatmap = view.readHeatmap(List.of(8L, 7L, 8L), date("2025-03-05"), date("2025-03-20"));
+
+        assertThat(heatmap.weeks()).containsExactly(date("2025-03-03"), date("2025-03-10"), date("2025-03-17"));
+        assertThat(heatmap.employees()).extracting(EmployeeWorkloadView.EmployeeWorkload::employeeId).containsExactly(8L, 7L);
+        assertThat(heatmap.employees().get(0).allocatedDays()).containsExactly(0, 0, 0);
+        assertThat(heatmap.employees().get(1).allocatedDays()).containsExactly(0, 5, 0);
+        assertThat(heatmap.employees().get(1).projectCounts()).containsExactly(0, 2, 0);
+    }
+
+    @Test
+    @DisplayName("readHeatmap - too many weeks or employees is rejected")
+    void readHeatmap_Limits() {
+        assertThatThrownBy(() -> view.readHeatmap(List.of(7L), date("2025-03-03"), date("2025-04-07")))
+            .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> view.readHeatmap(List.of(1L, 2L, 3L), date("2025-03-03"), date("2025-03-07")))
+            .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(workloadRepository);
+    }
+
+    private static EmployeeWeekWorkloadEntity row(Long employeeId, String week, int projects, int days) {
+        EmployeeWeekWorkloadEntity row = new EmployeeWeekWorkloadEntity(employeeId, date(week));
+        row.setProjectCount(projects);
+        row.setAllocatedDays(days);
+        return row;
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+}
@@ -8,6 +8,7 @@ import de.szut.lf8_starter.exceptionHandling.ResourceNotFoundException;
 import de.szut.lf8_starter.project.ProjectController;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.ProjectImportService;
 import de.szut.lf8_starter.project.ProjectService;
 import de.szut.lf8_starter.project.service.EmployeeService;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -51,6 +52,9 @@ public class ProjectControllerAssignEmployeeToProjectUnitTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private ProjectImportService projectImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -4,6 +4,7 @@ import de.szut.lf8_starter.exceptionHandling.ResourceNotFoundException;
 import de.szut.lf8_starter.project.ProjectController;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.ProjectImportService;
 import de.szut.lf8_starter.project.ProjectService;
 import de.szut.lf8_starter.project.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +43,9 @@ class ProjectControllerDeleteProjectUnitTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private ProjectImportService projectImportService;
+
     @BeforeEach
     void setUp() {
         ProjectEntity testProject = new ProjectEntity();
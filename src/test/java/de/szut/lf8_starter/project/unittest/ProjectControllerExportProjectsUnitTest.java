@@ -0,0 +1,110 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.project.ProjectController;
+import de.szut.lf8_starter.project.ProjectEntity;
+import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.ProjectImportService;
+import de.szut.lf8_starter.project.ProjectService;
+import de.szut.lf8_starter.project.dto.ProjectGetDto;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProjectController.class)
+@WithMockUser
+@DisplayName("ProjectController Export Projects Tests")
+class ProjectControllerExportProjectsUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private ProjectMapper projectMapper;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private ProjectImportService projectImportService;
+
+    private ProjectEntity project(Long id) {
+        ProjectEntity project = new ProjectEntity();
+        project.setId(id);
+        return project;
+    }
+
+    private ProjectGetDto dto(Long id, String designation) {
+        return new ProjectGetDto(id, designation, 50L, 100L, null, null,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), null, Set.of());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("GET /projects/export - writes one JSON object per line across chunks")
+    void exportProjects_WritesNdjson() throws Exception {
+        ProjectEntity first = project(1L);
+        ProjectEntity second = project(2L);
+        ProjectEntity third = project(3L);
+        doAnswer(invocation -> {
+            Consumer<List<ProjectEntity>> sink = invocation.getArgument(0);
+            sink.accept(List.of(first, second));
+            sink.accept(List.of(third));
+            return null;
+        }).when(projectService).exportAll(any());
+        when(projectMapper.mapToGetDto(first)).thenReturn(dto(1L, "Alpha"));
+        when(projectMapper.mapToGetDto(second)).thenReturn(dto(2L, "Beta"));
+        when(projectMapper.mapToGetDto(third)).thenReturn(dto(3L, "Gamma"));
+
+        MvcResult asyncResult = mockMvc.perform(get("/projects/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"designation\":\"Alpha\"")
+            .contains("\"startDate\":\"2025-01-01\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,");
+        assertThat(lines[2]).startsWith("{\"id\":3,").contains("\"designation\":\"Gamma\"");
+    }
+
+    @Test
+    @DisplayName("GET /projects/export - empty table yields empty body")
+    void exportProjects_NoProjects_EmptyBody() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/projects/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+}
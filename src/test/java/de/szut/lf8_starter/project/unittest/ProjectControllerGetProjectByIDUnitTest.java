@@ -4,6 +4,7 @@ import de.szut.lf8_starter.exceptionHandling.ResourceNotFoundException;
 import de.szut.lf8_starter.project.ProjectController;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.ProjectImportService;
 import de.szut.lf8_starter.project.ProjectService;
 import de.szut.lf8_starter.project.dto.ProjectGetDto;
 import de.szut.lf8_starter.project.service.EmployeeService;
@@ -41,6 +42,9 @@ class ProjectControllerGetProjectByIDUnitTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private ProjectImportService projectImportService;
+
     private ProjectEntity testProject;
     private ProjectGetDto testProjectDto;
 
@@ -0,0 +1,113 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.project.ProjectController;
+import de.szut.lf8_starter.project.ProjectEntity;
+import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.ProjectPage;
+import de.szut.lf8_starter.project.ProjectImportService;
+import de.szut.lf8_starter.project.ProjectService;
+import de.szut.lf8_starter.project.ProjectStatus;
+import de.szut.lf8_starter.project.dto.ProjectGetDto;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProjectController.class)
+@WithMockUser
+@DisplayName("ProjectController Get Project Page Tests")
+class ProjectControllerGetProjectPageUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private ProjectMapper projectMapper;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private ProjectImportService projectImportService;
+
+    private ProjectEntity testProject;
+    private ProjectGetDto testProjectDto;
+
+    @BeforeEach
+    void setUp() {
+        testProject = new ProjectEntity();
+        testProject.setId(1L);
+        testProject.setDesignation("Test Projekt");
+        testProject.setCustomerId(100L);
+        testProject.setResponsibleEmployeeId(50L);
+        testProject.setStartDate(LocalDate.of(2025, 1, 1));
+        testProject.setPlannedEndDate(LocalDate.of(2025, 12, 31));
+
+        testProjectDto = new ProjectGetDto(
+            1L,
+            "Test Projekt",
+            50L,
+            100L,
+            null,
+            null,
+            LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 12, 31),
+            null,
+            new HashSet<>()
+        );
+    }
+
+    @Test
+    @DisplayName("GET /projects/page - returns items and next cursor")
+    void getProjectPage_ReturnsItemsAndCursor() throws Exception {
+        when(projectService.readPage(eq(100L), isNull(), isNull(), isNull(), eq(ProjectStatus.ACTIVE), isNull(), eq(1)))
+            .thenReturn(new ProjectPage(List.of(testProject), "djE6MQ"));
+        when(projectMapper.mapToGetDto(testProject)).thenReturn(testProjectDto);
+
+        mockMvc.perform(get("/projects/page")
+                .param("customerId", "100")
+                .param("status", "ACTIVE")
+                .param("limit", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1L))
+                .andExpect(jsonPath("$.items[0].designation").value("Test Projekt"))
+                .andExpect(jsonPath("$.nextCursor").value("djE6MQ"));
+    }
+
+    @Test
+    @DisplayName("GET /projects/page - invalid cursor returns 400")
+    void getProjectPage_InvalidCursor_Returns400() throws Exception {
+        when(projectService.readPage(any(), any(), any(), any(), any(), eq("kaputt"), anyInt()))
+            .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor"));
+
+        mockMvc.perform(get("/projects/page")
+                .param("cursor", "kaputt")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+}
@@ -1,11 +1,17 @@
 package de.szut.lf8_starter.project.unittest;
 
 import de.szut.lf8_starter.dto.UpdateProjectDTO;
+import de.szut.lf8_starter.exceptionHandling.DateChangeConflictException;
 import de.szut.lf8_starter.exceptionHandling.ResourceNotFoundException;
+import de.szut.lf8_starter.project.DateChangePolicy;
 import de.szut.lf8_starter.project.ProjectController;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.ProjectImportService;
 import de.szut.lf8_starter.project.ProjectService;
+import de.szut.lf8_starter.project.ProjectUpdateResult;
+import de.szut.lf8_starter.project.dto.ConflictingProjectDto;
+import de.szut.lf8_starter.project.dto.EmployeeConflictDto;
 import de.szut.lf8_starter.project.dto.ProjectGetDto;
 import de.szut.lf8_starter.project.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +26,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.List;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -43,6 +50,9 @@ class ProjectControllerUpdateProjectUnitTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private ProjectImportService projectImportService;
+
     @BeforeEach
     void setUp() {
         ProjectEntity testProject = new ProjectEntity();
@@ -81,7 +91,7 @@ class ProjectControllerUpdateProjectUnitTest {
         updatedEntity.setStartDate(LocalDate.of(2025, 2, 1));
         updatedEntity.setPlannedEndDate(LocalDate.of(2025, 11, 30));
         ProjectGetDto updatedDto = new ProjectGetDto(1L, "Updated Projekt", 60L, 200L, null, "Updated Kommentar", LocalDate.of(2025, 2, 1), LocalDate.of(2025, 11, 30), null, new HashSet<>());
-        when(projectService.updateFromDTO(1L, updateDTO)).thenReturn(updatedEntity);
+        when(projectService.updateFromDTO(1L, updateDTO, DateChangePolicy.WARN)).thenReturn(new ProjectUpdateResult(updatedEntity, null));
         when(projectMapper.mapToGetDto(updatedEntity)).thenReturn(updatedDto);
 
         mockMvc.perform(put("/projects/{projectId}", 1L)
@@ -91,14 +101,34 @@ class ProjectControllerUpdateProjectUnitTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.designation").value("Updated Projekt"));
+                .andExpect(jsonPath("$.designation").value("Updated Projekt"))
+                .andExpect(jsonPath("$.dateChangeImpact").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("PUT /projects/{projectId}?onConflict=REJECT - Conflicting date change returns 409 with the employees")
+    void updateProject_RejectConflict_Returns409() throws Exception {
+        UpdateProjectDTO updateDTO = new UpdateProjectDTO("Updated Projekt", 60L, 200L, null, "Updated Kommentar", LocalDate.of(2025, 2, 1), LocalDate.of(2025, 11, 30));
+        EmployeeConflictDto conflict = new EmployeeConflictDto(7L,
+                List.of(new ConflictingProjectDto(2L, "Other", LocalDate.of(2025, 11, 1), LocalDate.of(2025, 12, 31))));
+        when(projectService.updateFromDTO(1L, updateDTO, DateChangePolicy.REJECT))
+                .thenThrow(new DateChangeConflictException(1L, List.of(conflict)));
+
+        mockMvc.perform(put("/projects/{projectId}", 1L)
+                        .param("onConflict", "REJECT")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"designation\":\"Updated Projekt\",\"customerId\":200,\"responsibleEmployeeId\":60,\"comment\":\"Updated Kommentar\",\"startDate\":\"2025-02-01\",\"plannedEndDate\":\"2025-11-30\"}")
+                        .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.employeeConflicts[0].employeeId").value(7))
+                .andExpect(jsonPath("$.employeeConflicts[0].conflictingProjects[0].projectId").value(2));
     }
 
     @Test
     @DisplayName("PUT /projects/{projectId} - Project not found")
     void updateProject_NotFound_Returns404() throws Exception {
         UpdateProjectDTO updateDTO = new UpdateProjectDTO("Updated Projekt", 60L, 200L, null, "Updated Kommentar", LocalDate.of(2025, 2, 1), LocalDate.of(2025, 11, 30));
-        when(projectService.updateFromDTO(999L, updateDTO))
+        when(projectService.updateFromDTO(999L, updateDTO, DateChangePolicy.WARN))
                 .thenThrow(new ResourceNotFoundException("Project with ID 999 does not exist."));
 
         mockMvc.perform(put("/projects/{projectId}", 999L)
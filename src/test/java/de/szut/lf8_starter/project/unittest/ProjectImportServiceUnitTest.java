@@ -0,0 +1,114 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.project.ProjectEntity;
+import de.szut.lf8_starter.project.ProjectImportService;
+import de.szut.lf8_starter.project.ProjectImportService.ImportRow;
+import de.szut.lf8_starter.project.ProjectMapper;
+import de.szut.lf8_starter.project.dto.ProjectCreateDto;
+import de.szut.lf8_starter.project.dto.ProjectImportResponseDto;
+import de.szut.lf8_starter.project.dto.ProjectImportRowDto;
+import de.szut.lf8_starter.project.service.CustomerService;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectImportServiceUnitTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private CustomerService customerService;
+
+    private ProjectImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ProjectImportService(entityManager, transactionTemplate, new ProjectMapper(),
+            employeeService, customerService, Validation.buildDefaultValidatorFactory().getValidator(), 3);
+    }
+
+    private static ProjectCreateDto project(String designation, Long customerId, LocalDate start, LocalDate end) {
+        return new ProjectCreateDto(designation, 1L, customerId, null, null, start, end, null);
+    }
+
+    @Test
+    @DisplayName("importProjects - valid rows are created, invalid rows reported")
+    @SuppressWarnings("unchecked")
+    void importProjects_mixedRows() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 6, 30);
+        when(employeeService.findActiveEmployeeIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(customerService.customerExists(10L)).thenReturn(true);
+        when(customerService.customerExists(77L)).thenReturn(false);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        AtomicLong ids = new AtomicLong(100);
+        doAnswer(invocation -> {
+            ((ProjectEntity) invocation.getArgument(0)).setId(ids.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any());
+
+        ProjectImportResponseDto result = importService.importProjects(List.of(
+            ImportRow.parsed(1, project("Alpha", 10L, start, end)),
+            ImportRow.parsed(2, project("", 10L, start, end)),
+            ImportRow.parsed(3, project("Beta", 10L, end, start)),
+            ImportRow.parsed(4, project("Gamma", 77L, start, end)),
+            ImportRow.unreadable(5, "Invalid JSON: Unexpected end-of-input")));
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(4);
+        assertThat(result.getRows()).extracting(ProjectImportRowDto::getProjectId)
+            .containsExactly(101L, null, null, null, null);
+        assertThat(result.getRows().get(1).getErrors()).containsExactly("Designation cannot be blank");
+        assertThat(result.getRows().get(2).getErrors()).containsExactly("Start date cannot be after the planned end date");
+        assertThat(result.getRows().get(3).getErrors()).containsExactly("Customer with ID 77 does not exist.");
+        assertThat(result.getRows().get(4).getErrors()).containsExactly("Invalid JSON: Unexpected end-of-input");
+
+        // All distinct employees are checked with one batch lookup, never one call per row
+        verify(employeeService, times(1)).findActiveEmployeeIds(any());
+        verify(employeeService, never()).employeeExists(any());
+        verify(entityManager, times(1)).persist(any());
+    }
+
+    @Test
+    @DisplayName("importProjects - more rows than allowed - 400, nothing created")
+    void importProjects_tooManyRows() {
+        ProjectCreateDto dto = project("Alpha", 10L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30));
+        List<ImportRow> rows = List.of(ImportRow.parsed(1, dto), ImportRow.parsed(2, dto),
+            ImportRow.parsed(3, dto), ImportRow.parsed(4, dto));
+
+        assertThrows(ResponseStatusException.class, () -> importService.importProjects(rows));
+        verifyNoInteractions(transactionTemplate, employeeService);
+    }
+}
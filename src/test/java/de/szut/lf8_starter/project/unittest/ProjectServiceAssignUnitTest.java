@@ -3,7 +3,12 @@ package de.szut.lf8_starter.project.unittest;
 import de.szut.lf8_starter.exceptionHandling.DuplicateAssignmentException;
 import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
 import de.szut.lf8_starter.exceptionHandling.EmployeeQualificationException;
+import de.szut.lf8_starter.exceptionHandling.QualificationExpiredException;
 import de.szut.lf8_starter.exceptionHandling.TimeConflictException;
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.EmployeeWorkloadView;
+import de.szut.lf8_starter.project.ProjectAssignmentEntity;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectRepository;
 import de.szut.lf8_starter.project.ProjectService;
@@ -19,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,12 +37,21 @@ class ProjectServiceAssignUnitTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
     @Mock
     private EmployeeService employeeService;
 
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private EmployeeIntervalIndex intervalIndex;
+
+    @Mock
+    private EmployeeWorkloadView workloadView;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -59,15 +74,16 @@ class ProjectServiceAssignUnitTest {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(employeeService.employeeExists(100L)).thenReturn(true);
         when(employeeService.employeeHasQualification(100L, "JAVA")).thenReturn(true);
-        when(projectRepository.findProjectsInTimeRange(project.getStartDate(), project.getPlannedEndDate())).thenReturn(Collections.emptyList());
-        when(projectRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(projectRepository.findConflictingProjectsOfEmployee(100L, 1L, project.getStartDate(), project.getPlannedEndDate())).thenReturn(Collections.emptyList());
+        when(assignmentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         ProjectEntity result = projectService.addEmployeeToProject(1L, 100L, "JAVA");
 
         assertThat(result.getEmployeeIds()).contains(100L);
-        assertThat(result.getEmployeeQualifications().get(100L)).isEqualTo("JAVA");
+        assertThat(result.findAssignment(100L).map(ProjectAssignmentEntity::getQualification)).contains("JAVA");
 
-        verify(projectRepository).save(result);
+        verify(assignmentRepository).save(any(ProjectAssignmentEntity.class));
+        verify(projectRepository, never()).save(any());
     }
 
     @Test
@@ -97,24 +113,89 @@ class ProjectServiceAssignUnitTest {
         other.setDesignation("Other");
         other.setStartDate(LocalDate.of(2025,1,1));
         other.setPlannedEndDate(LocalDate.of(2025,12,31));
-        other.getEmployeeIds().add(400L);
+        other.getAssignments().add(new ProjectAssignmentEntity(other, 400L, "DEV", LocalDate.of(2025,1,2)));
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(employeeService.employeeExists(400L)).thenReturn(true);
         when(employeeService.employeeHasQualification(400L, "DEV")).thenReturn(true);
-        when(projectRepository.findProjectsInTimeRange(project.getStartDate(), project.getPlannedEndDate())).thenReturn(Collections.singletonList(other));
+        when(projectRepository.findConflictingProjectsOfEmployee(400L, 1L, project.getStartDate(), project.getPlannedEndDate())).thenReturn(Collections.singletonList(other));
 
         assertThrows(TimeConflictException.class, () -> projectService.addEmployeeToProject(1L, 400L, "DEV"));
     }
 
+    @Test
+    @DisplayName("addEmployeeToProject - time conflict answered by the interval index")
+    void addEmployeeToProject_timeConflictFromIndex() {
+        ProjectEntity other = new ProjectEntity();
+        other.setId(2L);
+        other.setDesignation("Other");
+        other.setStartDate(LocalDate.of(2025,3,1));
+        other.setPlannedEndDate(LocalDate.of(2025,4,30));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(employeeService.employeeExists(400L)).thenReturn(true);
+        when(employeeService.employeeHasQualification(400L, "DEV")).thenReturn(true);
+        when(intervalIndex.isReady()).thenReturn(true);
+        when(intervalIndex.findOverlappingProjectIds(400L, project.getStartDate(), project.getPlannedEndDate(), 1L))
+            .thenReturn(List.of(2L));
+        when(projectRepository.findAllById(List.of(2L))).thenReturn(List.of(other));
+
+        TimeConflictException ex = assertThrows(TimeConflictException.class,
+            () -> projectService.addEmployeeToProject(1L, 400L, "DEV"));
+
+        assertThat(ex.getConflictingProjects()).hasSize(1);
+        verify(projectRepository, never()).findConflictingProjectsOfEmployee(any(), any(), any(), any());
+        verify(assignmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("addEmployeeToProject - free according to the interval index, index updated")
+    void addEmployeeToProject_noConflictInIndex_updatesIndex() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(employeeService.employeeExists(100L)).thenReturn(true);
+        when(employeeService.employeeHasQualification(100L, "JAVA")).thenReturn(true);
+        when(intervalIndex.isReady()).thenReturn(true);
+        when(intervalIndex.findOverlappingProjectIds(100L, project.getStartDate(), project.getPlannedEndDate(), 1L))
+            .thenReturn(List.of());
+        when(assignmentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        projectService.addEmployeeToProject(1L, 100L, "JAVA");
+
+        verify(projectRepository, never()).findConflictingProjectsOfEmployee(any(), any(), any(), any());
+        verify(projectRepository, never()).findAllById(any());
+        verify(intervalIndex).assignmentAdded(100L, 1L, project.getStartDate(), project.getPlannedEndDate());
+    }
+
+    @Test
+    @DisplayName("addEmployeeToProject - not found wins over a failing qualification check")
+    void addEmployeeToProject_notFoundWinsOverQualification() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(employeeService.employeeExists(600L)).thenThrow(new EmployeeNotFoundException(600L));
+        when(employeeService.employeeHasQualification(600L, "JAVA")).thenThrow(new EmployeeQualificationException("JAVA"));
+
+        assertThrows(EmployeeNotFoundException.class, () -> projectService.addEmployeeToProject(1L, 600L, "JAVA"));
+        verify(assignmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("addEmployeeToProject - expired qualification keeps its exception")
+    void addEmployeeToProject_qualificationExpired() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(employeeService.employeeExists(700L)).thenReturn(true);
+        when(employeeService.employeeHasQualification(700L, "JAVA"))
+            .thenThrow(new QualificationExpiredException("JAVA", LocalDate.of(2024,12,31)));
+
+        assertThrows(QualificationExpiredException.class, () -> projectService.addEmployeeToProject(1L, 700L, "JAVA"));
+        verify(assignmentRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("addEmployeeToProject - duplicate assignment")
     void addEmployeeToProject_duplicateAssignment() {
-        project.getEmployeeIds().add(500L);
-        project.getEmployeeQualifications().put(500L, "Backend Developer");
-        project.getEmployeeAssignedDates().put(500L, LocalDate.of(2025,1,15));
+        ProjectAssignmentEntity existing = new ProjectAssignmentEntity(project, 500L, "Backend Developer", LocalDate.of(2025,1,15));
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(assignmentRepository.findByProjectIdAndEmployeeId(1L, 500L)).thenReturn(Optional.of(existing));
 
         DuplicateAssignmentException ex = assertThrows(DuplicateAssignmentException.class,
             () -> projectService.addEmployeeToProject(1L, 500L, "Backend Developer"));
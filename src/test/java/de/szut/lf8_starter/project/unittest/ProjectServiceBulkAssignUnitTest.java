@@ -0,0 +1,144 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.exceptionHandling.QualificationExpiredException;
+import de.szut.lf8_starter.project.AssignmentOutcome;
+import de.szut.lf8_starter.project.AssignmentStatus;
+import de.szut.lf8_starter.project.BulkAssignmentResult;
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.EmployeeWorkloadView;
+import de.szut.lf8_starter.project.ProjectAssignmentEntity;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
+import de.szut.lf8_starter.project.ProjectEntity;
+import de.szut.lf8_starter.project.ProjectRepository;
+import de.szut.lf8_starter.project.ProjectService;
+import de.szut.lf8_starter.project.dto.EmployeeAssignmentDto;
+import de.szut.lf8_starter.project.service.CustomerService;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceBulkAssignUnitTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private EmployeeIntervalIndex intervalIndex;
+
+    @Mock
+    private EmployeeWorkloadView workloadView;
+
+    @InjectMocks
+    private ProjectService projectService;
+
+    private ProjectEntity project;
+
+    @BeforeEach
+    void setUp() {
+        project = new ProjectEntity();
+        project.setId(1L);
+        project.setDesignation("TestProjekt");
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setPlannedEndDate(LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    @DisplayName("addEmployeesToProject - one result per employee, only valid ones are saved")
+    void addEmployeesToProject_mixedResults() {
+        ProjectEntity other = new ProjectEntity();
+        other.setId(2L);
+        other.setDesignation("Other");
+        other.setStartDate(LocalDate.of(2025, 3, 1));
+        other.setPlannedEndDate(LocalDate.of(2025, 6, 30));
+        project.getAssignments().add(new ProjectAssignmentEntity(project, 500L, "DEV", LocalDate.of(2025, 1, 2)));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(employeeService.employeeExists(anyLong())).thenAnswer(invocation -> !invocation.getArgument(0).equals(200L));
+        when(employeeService.employeeHasQualification(anyLong(), anyString())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0).equals(300L)) {
+                throw new QualificationExpiredException("DEV", LocalDate.of(2024, 12, 31));
+            }
+            return true;
+        });
+        when(assignmentRepository.findConflictingAssignments(List.of(100L, 400L), 1L, project.getStartDate(), project.getPlannedEndDate()))
+            .thenReturn(List.of(new ProjectAssignmentEntity(other, 400L, "DEV", LocalDate.of(2025, 2, 1))));
+
+        BulkAssignmentResult result = projectService.addEmployeesToProject(1L, List.of(
+            new EmployeeAssignmentDto(100L, "DEV"),
+            new EmployeeAssignmentDto(200L, "DEV"),
+            new EmployeeAssignmentDto(300L, "DEV"),
+            new EmployeeAssignmentDto(400L, "DEV"),
+            new EmployeeAssignmentDto(500L, "DEV"),
+            new EmployeeAssignmentDto(100L, "DEV")));
+
+        assertThat(result.getOutcomes()).extracting(AssignmentOutcome::getStatus).containsExactly(
+            AssignmentStatus.ASSIGNED,
+            AssignmentStatus.EMPLOYEE_NOT_FOUND,
+            AssignmentStatus.QUALIFICATION_EXPIRED,
+            AssignmentStatus.TIME_CONFLICT,
+            AssignmentStatus.ALREADY_ASSIGNED,
+            AssignmentStatus.DUPLICATE_IN_REQUEST);
+        assertThat(result.getOutcomes().get(3).getConflictingProjects()).singleElement()
+            .satisfies(conflict -> assertThat(conflict.getProjectId()).isEqualTo(2L));
+        assertThat(result.assignedCount()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProjectAssignmentEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(assignmentRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(ProjectAssignmentEntity::getEmployeeId).containsExactly(100L);
+        verify(intervalIndex).assignmentAdded(100L, 1L, project.getStartDate(), project.getPlannedEndDate());
+        assertThat(project.getEmployeeIds()).containsExactlyInAnyOrder(100L, 500L);
+    }
+
+    @Test
+    @DisplayName("addEmployeesToProject - conflicts from the interval index, projects loaded in one query")
+    void addEmployeesToProject_conflictsFromIndex() {
+        ProjectEntity other = new ProjectEntity();
+        other.setId(2L);
+        other.setDesignation("Other");
+        other.setStartDate(LocalDate.of(2025, 3, 1));
+        other.setPlannedEndDate(LocalDate.of(2025, 6, 30));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(employeeService.employeeExists(anyLong())).thenReturn(true);
+        when(employeeService.employeeHasQualification(anyLong(), anyString())).thenReturn(true);
+        when(intervalIndex.isReady()).thenReturn(true);
+        when(intervalIndex.findOverlappingProjectIds(100L, project.getStartDate(), project.getPlannedEndDate(), 1L)).thenReturn(List.of());
+        when(intervalIndex.findOverlappingProjectIds(200L, project.getStartDate(), project.getPlannedEndDate(), 1L)).thenReturn(List.of(2L));
+        when(intervalIndex.findOverlappingProjectIds(300L, project.getStartDate(), project.getPlannedEndDate(), 1L)).thenReturn(List.of(2L));
+        when(projectRepository.findAllById(List.of(2L))).thenReturn(List.of(other));
+
+        BulkAssignmentResult result = projectService.addEmployeesToProject(1L, List.of(
+            new EmployeeAssignmentDto(100L, "DEV"),
+            new EmployeeAssignmentDto(200L, "DEV"),
+            new EmployeeAssignmentDto(300L, "DEV")));
+
+        assertThat(result.getOutcomes()).extracting(AssignmentOutcome::getStatus).containsExactly(
+            AssignmentStatus.ASSIGNED, AssignmentStatus.TIME_CONFLICT, AssignmentStatus.TIME_CONFLICT);
+        verify(projectRepository, times(1)).findAllById(any());
+        verify(assignmentRepository, never()).findConflictingAssignments(any(), any(), any(), any());
+    }
+}
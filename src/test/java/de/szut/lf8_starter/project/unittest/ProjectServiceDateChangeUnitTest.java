@@ -0,0 +1,174 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.dto.UpdateProjectDTO;
+import de.szut.lf8_starter.exceptionHandling.DateChangeConflictException;
+import de.szut.lf8_starter.project.DateChangePolicy;
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.EmployeeWorkloadView;
+import de.szut.lf8_starter.project.ProjectAssignmentEntity;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
+import de.szut.lf8_starter.project.ProjectEntity;
+import de.szut.lf8_starter.project.ProjectRepository;
+import de.szut.lf8_starter.project.ProjectService;
+import de.szut.lf8_starter.project.ProjectUpdateResult;
+import de.szut.lf8_starter.project.service.CustomerService;
+import de.szut.lf8_starter.project.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceDateChangeUnitTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private EmployeeIntervalIndex intervalIndex;
+
+    @Mock
+    private EmployeeWorkloadView workloadView;
+
+    @InjectMocks
+    private ProjectService projectService;
+
+    private ProjectEntity project;
+
+    private ProjectEntity other;
+
+    @BeforeEach
+    void setUp() {
+        project = new ProjectEntity();
+        project.setId(1L);
+        project.setDesignation("TestProjekt");
+        project.setCustomerId(100L);
+        project.setResponsibleEmployeeId(50L);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setPlannedEndDate(LocalDate.of(2025, 6, 30));
+        project.getAssignments().add(new ProjectAssignmentEntity(project, 7L, "DEV", LocalDate.of(2025, 1, 2)));
+        project.getAssignments().add(new ProjectAssignmentEntity(project, 8L, "DEV", LocalDate.of(2025, 1, 2)));
+
+        other = new ProjectEntity();
+        other.setId(2L);
+        other.setDesignation("Other");
+        other.setStartDate(LocalDate.of(2025, 8, 1));
+        other.setPlannedEndDate(LocalDate.of(2025, 12, 31));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+    }
+
+    private UpdateProjectDTO moveTo(LocalDate start, LocalDate end) {
+        return new UpdateProjectDTO("TestProjekt", 50L, 100L, null, null, start, end);
+    }
+
+    private void stubSave() {
+        when(employeeService.employeeExists(50L)).thenReturn(true);
+        when(customerService.customerExists(100L)).thenReturn(true);
+        when(projectRepository.save(project)).thenReturn(project);
+    }
+
+    private void stubConflictOfEmployee7() {
+        when(assignmentRepository.findConflictingAssignments(Set.of(7L, 8L), 1L, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 9, 30)))
+            .thenReturn(List.of(new ProjectAssignmentEntity(other, 7L, "DEV", LocalDate.of(2025, 7, 1))));
+    }
+
+    @Test
+    @DisplayName("updateFromDTO - WARN saves the new period and reports conflicts found in the added days only")
+    void warn_savesAndReports() {
+        stubSave();
+        stubConflictOfEmployee7();
+
+        ProjectUpdateResult result = projectService.updateFromDTO(1L,
+            moveTo(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 9, 30)), DateChangePolicy.WARN);
+
+        assertThat(result.getProject().getPlannedEndDate()).isEqualTo(LocalDate.of(2025, 9, 30));
+        assertThat(result.getImpact().getPolicy()).isEqualTo(DateChangePolicy.WARN);
+        assertThat(result.getImpact().getConflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getEmployeeId()).isEqualTo(7L);
+            assertThat(conflict.getConflictingProjects()).singleElement()
+                .satisfies(p -> assertThat(p.getProjectId()).isEqualTo(2L));
+        });
+        assertThat(result.getImpact().getUnassignedEmployeeIds()).isEmpty();
+        verify(assignmentRepository, times(1)).findConflictingAssignments(any(), any(), any(), any());
+        verify(assignmentRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("updateFromDTO - REJECT throws before anything is saved")
+    void reject_throwsWithoutSaving() {
+        stubConflictOfEmployee7();
+
+        assertThatThrownBy(() -> projectService.updateFromDTO(1L,
+            moveTo(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 9, 30)), DateChangePolicy.REJECT))
+            .isInstanceOfSatisfying(DateChangeConflictException.class, ex ->
+                assertThat(ex.getEmployeeConflicts()).extracting("employeeId").containsExactly(7L));
+
+        verify(projectRepository, never()).save(any());
+        assertThat(project.getPlannedEndDate()).isEqualTo(LocalDate.of(2025, 6, 30));
+    }
+
+    @Test
+    @DisplayName("updateFromDTO - UNASSIGN removes only the conflicting employees")
+    void unassign_removesConflictingEmployees() {
+        stubSave();
+        stubConflictOfEmployee7();
+
+        ProjectUpdateResult result = projectService.updateFromDTO(1L,
+            moveTo(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 9, 30)), DateChangePolicy.UNASSIGN);
+
+        assertThat(result.getImpact().getUnassignedEmployeeIds()).containsExactly(7L);
+        assertThat(project.getEmployeeIds()).containsExactly(8L);
+        verify(assignmentRepository).delete(argThat(a -> a.getEmployeeId().equals(7L)));
+        verify(intervalIndex).assignmentRemoved(7L, 1L);
+        verify(workloadView).assignmentRemoved(7L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30));
+        verify(workloadView).projectDatesChanged(Set.of(8L), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 9, 30));
+    }
+
+    @Test
+    @DisplayName("updateFromDTO - a shrinking period needs no conflict lookup")
+    void shrink_noLookup() {
+        stubSave();
+
+        ProjectUpdateResult result = projectService.updateFromDTO(1L,
+            moveTo(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 5, 31)), DateChangePolicy.REJECT);
+
+        assertThat(result.getImpact()).isNull();
+        verify(assignmentRepository, never()).findConflictingAssignments(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("updateFromDTO - extending on both sides checks exactly the two added ranges")
+    void extendBothSides_checksTwoRanges() {
+        stubSave();
+
+        projectService.updateFromDTO(1L,
+            moveTo(LocalDate.of(2024, 11, 1), LocalDate.of(2025, 7, 31)), DateChangePolicy.WARN);
+
+        verify(assignmentRepository).findConflictingAssignments(Set.of(7L, 8L), 1L, LocalDate.of(2024, 11, 1), LocalDate.of(2024, 12, 31));
+        verify(assignmentRepository).findConflictingAssignments(Set.of(7L, 8L), 1L, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31));
+        verifyNoMoreInteractions(assignmentRepository);
+    }
+}
@@ -1,6 +1,10 @@
 package de.szut.lf8_starter.project.unittest;
 
 import de.szut.lf8_starter.exceptionHandling.ResourceNotFoundException;
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.EmployeeWorkloadView;
+import de.szut.lf8_starter.project.ProjectAssignmentEntity;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectRepository;
 import de.szut.lf8_starter.project.ProjectService;
@@ -14,8 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,12 +29,21 @@ class ProjectServiceRemoveEmployeeUnitTest {
     @Mock
     private ProjectRepository repository;
 
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
     @Mock
     private EmployeeService employeeService;
 
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private EmployeeIntervalIndex intervalIndex;
+
+    @Mock
+    private EmployeeWorkloadView workloadView;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -55,22 +67,21 @@ class ProjectServiceRemoveEmployeeUnitTest {
 
         ProjectEntity project = new ProjectEntity();
         project.setId(projectId);
-        project.setEmployeeIds(new HashSet<>());
-        project.getEmployeeIds().add(employeeId);
-        project.setEmployeeQualifications(new HashMap<>());
-        project.getEmployeeQualifications().put(employeeId, "DEV");
+        ProjectAssignmentEntity assignment = new ProjectAssignmentEntity(project, employeeId, "DEV", LocalDate.now());
+        project.getAssignments().add(assignment);
 
         when(repository.findById(projectId)).thenReturn(Optional.of(project));
-        when(repository.save(any(ProjectEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(assignmentRepository.findByProjectIdAndEmployeeId(projectId, employeeId)).thenReturn(Optional.of(assignment));
 
         ProjectEntity result = projectService.removeEmployeeFromProject(projectId, employeeId);
 
         assertNotNull(result);
         assertFalse(result.getEmployeeIds().contains(employeeId));
-        assertFalse(result.getEmployeeQualifications().containsKey(employeeId));
+        assertTrue(result.findAssignment(employeeId).isEmpty());
 
         verify(repository).findById(projectId);
-        verify(repository).save(project);
+        verify(assignmentRepository).delete(assignment);
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -86,7 +97,7 @@ class ProjectServiceRemoveEmployeeUnitTest {
 
         assertTrue(ex.getMessage().contains("Projekt mit der ID"));
         verify(repository).findById(projectId);
-        verify(repository, never()).save(any());
+        verify(assignmentRepository, never()).delete(any());
     }
 
     @Test
@@ -97,16 +108,15 @@ class ProjectServiceRemoveEmployeeUnitTest {
 
         ProjectEntity project = new ProjectEntity();
         project.setId(projectId);
-        project.setEmployeeIds(new HashSet<>()); // leer
-        project.setEmployeeQualifications(new HashMap<>());
 
         when(repository.findById(projectId)).thenReturn(Optional.of(project));
+        when(assignmentRepository.findByProjectIdAndEmployeeId(projectId, employeeId)).thenReturn(Optional.empty()); // leer
 
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
             () -> projectService.removeEmployeeFromProject(projectId, employeeId));
 
         assertTrue(ex.getMessage().contains("Mitarbeiter mit der Mitarbeiternummer"));
         verify(repository).findById(projectId);
-        verify(repository, never()).save(any());
+        verify(assignmentRepository, never()).delete(any());
     }
 }
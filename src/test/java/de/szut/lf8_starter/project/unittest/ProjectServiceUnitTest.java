@@ -1,12 +1,17 @@
 package de.szut.lf8_starter.project.unittest;
 
 import de.szut.lf8_starter.exceptionHandling.ResourceNotFoundException;
+import de.szut.lf8_starter.project.EmployeeIntervalIndex;
+import de.szut.lf8_starter.project.EmployeeWorkloadView;
+import de.szut.lf8_starter.project.ProjectAssignmentEntity;
+import de.szut.lf8_starter.project.ProjectAssignmentRepository;
 import de.szut.lf8_starter.project.ProjectEntity;
 import de.szut.lf8_starter.project.ProjectRepository;
 import de.szut.lf8_starter.project.ProjectService;
 import de.szut.lf8_starter.project.dto.ProjectEmployeesDto;
 import de.szut.lf8_starter.project.service.CustomerService;
 import de.szut.lf8_starter.project.service.EmployeeService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +19,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,12 +40,24 @@ class ProjectServiceUnitTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectAssignmentRepository assignmentRepository;
+
     @Mock
     private EmployeeService employeeService;
 
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private EmployeeIntervalIndex intervalIndex;
+
+    @Mock
+    private EmployeeWorkloadView workloadView;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -153,23 +175,35 @@ class ProjectServiceUnitTest {
         Long id = 2L;
         ProjectEntity projectWithEmployees = new ProjectEntity();
         projectWithEmployees.setId(id);
-        projectWithEmployees.getEmployeeIds().add(10L);
 
         when(projectRepository.findById(id)).thenReturn(Optional.of(projectWithEmployees));
+        when(assignmentRepository.existsByProjectId(id)).thenReturn(true);
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> projectService.deleteById(id));
         assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
     }
 
+    @Test
+    @DisplayName("delete - Project with employee assignments - throws ResponseStatusException CONFLICT")
+    void delete_WithAssignments_ThrowsResponseStatusException() {
+        ProjectEntity projectWithEmployees = new ProjectEntity();
+        projectWithEmployees.setId(2L);
+        when(assignmentRepository.existsByProjectId(2L)).thenReturn(true);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> projectService.delete(projectWithEmployees));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        verify(projectRepository, never()).delete(any());
+    }
+
     @Test
     @DisplayName("getProjectEmployees - Successfully retrieving the employees assigned to a project")
     void getProjectEmployees_ExistingProject_ReturnsEmployeesDto() {
         // Given
         Long projectId = 1L;
-        testProject.getEmployeeIds().add(10L);
-        testProject.getEmployeeQualifications().put(10L, "Developer");
+        testProject.getAssignments().add(new ProjectAssignmentEntity(testProject, 10L, "Developer", LocalDate.of(2025, 1, 2)));
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(testProject));
+        when(employeeService.getEmployeeNames(Set.of(10L))).thenReturn(Map.of(10L, "Anna Schmidt"));
 
         // When
         ProjectEmployeesDto dto = projectService.getProjectEmployees(projectId);
@@ -182,6 +216,7 @@ class ProjectServiceUnitTest {
         assertEquals(1, dto.getEmployees().size());
         assertEquals(10L, dto.getEmployees().getFirst().getEmployeeId());
         assertEquals("Developer", dto.getEmployees().getFirst().getQualification());
+        assertEquals("Anna Schmidt", dto.getEmployees().getFirst().getEmployeeName());
     }
 
     @Test
@@ -195,4 +230,37 @@ class ProjectServiceUnitTest {
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectEmployees(nonExistentId));
         assertEquals("Projekt mit der ID " + nonExistentId + " existiert nicht.", ex.getMessage());
     }
+
+    @Test
+    @DisplayName("exportAll - Hands projects to the sink chunk by chunk until a short chunk")
+    void exportAll_ShortChunk_StopsAfterFirstChunk() {
+        // Given
+        when(projectRepository.findIdsAfter(0L, Limit.of(500))).thenReturn(List.of(1L));
+        when(projectRepository.findWithAssignmentsByIdIn(List.of(1L))).thenReturn(List.of(testProject));
+        List<List<ProjectEntity>> chunks = new ArrayList<>();
+
+        // When
+        projectService.exportAll(chunks::add);
+
+        // Then
+        assertEquals(1, chunks.size());
+        assertEquals(List.of(testProject), chunks.get(0));
+        verify(projectRepository, times(1)).findIdsAfter(any(), any());
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("exportAll - Empty table never calls the sink")
+    void exportAll_NoProjects_SinkNotCalled() {
+        // Given
+        when(projectRepository.findIdsAfter(0L, Limit.of(500))).thenReturn(List.of());
+        List<List<ProjectEntity>> chunks = new ArrayList<>();
+
+        // When
+        projectService.exportAll(chunks::add);
+
+        // Then
+        assertTrue(chunks.isEmpty());
+        verify(projectRepository, never()).findWithAssignmentsByIdIn(any());
+    }
 }
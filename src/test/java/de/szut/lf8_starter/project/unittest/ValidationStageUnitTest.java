@@ -0,0 +1,70 @@
+package de.szut.lf8_starter.project.unittest;
+
+import de.szut.lf8_starter.exceptionHandling.EmployeeNotFoundException;
+import de.szut.lf8_starter.project.service.ValidationStage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ValidationStage Tests")
+class ValidationStageUnitTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("fork - checks run concurrently")
+    void fork_RunsConcurrently() {
+        // Both calls wait for each other - sequential execution would never finish
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ValidationStage.Check<Boolean> first = ValidationStage.fork(() -> awaitOther(bothStarted));
+        ValidationStage.Check<Boolean> second = ValidationStage.fork(() -> awaitOther(bothStarted));
+
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("join - rethrows the original exception")
+    void join_RethrowsOriginalException() {
+        ValidationStage.Check<Boolean> check = ValidationStage.fork(() -> {
+            throw new EmployeeNotFoundException(42L);
+        });
+
+        EmployeeNotFoundException ex = assertThrows(EmployeeNotFoundException.class, check::join);
+        assertThat(ex.getReason()).isEqualTo("Employee with ID 42 does not exist.");
+    }
+
+    @Test
+    @DisplayName("fork - request attributes of the caller are visible in the check")
+    void fork_PropagatesRequestAttributes() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        RequestAttributes seen = ValidationStage.fork(RequestContextHolder::getRequestAttributes).join();
+
+        assertThat(seen).isSameAs(attributes);
+    }
+
+    private static Boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package de.szut.lf8_starter.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingJwtDecoder Tests")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private JwtDecoder delegate;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(10), Clock.fixed(NOW, ZoneOffset.UTC), ticker);
+    }
+
+    @Test
+    @DisplayName("Same token is verified only once")
+    void decode_SameToken_DelegateCalledOnce() {
+        Jwt jwt = jwt("token-a", NOW.plusSeconds(300));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        assertThat(decoder.decode("token-a")).isSameAs(jwt);
+        assertThat(decoder.decode("token-a")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Entry ends with the token's exp")
+    void decode_AfterExpiry_DecodesAgain() {
+        when(delegate.decode("token-a")).thenReturn(jwt("token-a", NOW.plusSeconds(60)));
+
+        decoder.decode("token-a");
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        decoder.decode("token-a");
+
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Rejected tokens are not cached")
+    void decode_Invalid_NotCached() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    @Test
+    @DisplayName("Conversion runs once per cached token, every request gets its own authentication")
+    void reusingConversion_ConvertsOnce() {
+        Jwt jwt = jwt("token-a", NOW.plusSeconds(300));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+        @SuppressWarnings("unchecked")
+        Converter<Jwt, AbstractAuthenticationToken> converter = mock(Converter.class);
+        when(converter.convert(jwt)).thenAnswer(invocation -> new KeycloakJwtAuthenticationConverter().convert(jwt));
+        Converter<Jwt, AbstractAuthenticationToken> reusing = decoder.reusingConversion(converter);
+
+        AbstractAuthenticationToken first = reusing.convert(decoder.decode("token-a"));
+        AbstractAuthenticationToken second = reusing.convert(decoder.decode("token-a"));
+
+        verify(converter, times(1)).convert(jwt);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("user123");
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_hitec-employee");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user123")
+            .claim("realm_access", Map.of("roles", List.of("hitec-employee")))
+            .issuedAt(NOW)
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
@@ -1,5 +1,8 @@
 package de.szut.lf8_starter.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +17,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -47,18 +50,30 @@ class CustomAccessDeniedHandlerTest {
     @Mock
     private Authentication authentication;
 
-    private StringWriter stringWriter;
-    private PrintWriter printWriter;
+    private ByteArrayOutputStream body;
 
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
-        accessDeniedHandler = new CustomAccessDeniedHandler();
+        accessDeniedHandler = new CustomAccessDeniedHandler(new SecurityErrorResponseWriter(new ObjectMapper().findAndRegisterModules()));
 
-        stringWriter = new StringWriter();
-        printWriter = new PrintWriter(stringWriter);
+        body = new ByteArrayOutputStream();
 
-        when(response.getWriter()).thenReturn(printWriter);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        });
         when(request.getRequestURI()).thenReturn("/projects");
 
         SecurityContextHolder.setContext(securityContext);
@@ -81,8 +96,7 @@ class CustomAccessDeniedHandlerTest {
         verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
         verify(response).setContentType("application/json;charset=UTF-8");
 
-        printWriter.flush();
-        String jsonResponse = stringWriter.toString();
+        String jsonResponse = body.toString(StandardCharsets.UTF_8);
 
         assertThat(jsonResponse).contains("\"status\":403");
         assertThat(jsonResponse).contains("\"error\":\"Forbidden\"");
@@ -101,8 +115,7 @@ class CustomAccessDeniedHandlerTest {
         accessDeniedHandler.handle(request, response, accessDeniedException);
 
         // Then
-        printWriter.flush();
-        String jsonResponse = stringWriter.toString();
+        String jsonResponse = body.toString(StandardCharsets.UTF_8);
 
         assertThat(jsonResponse).contains("\"status\":403");
         assertThat(jsonResponse).contains("\"userRoles\":[]");
@@ -124,8 +137,7 @@ class CustomAccessDeniedHandlerTest {
         accessDeniedHandler.handle(request, response, accessDeniedException);
 
         // Then
-        printWriter.flush();
-        String jsonResponse = stringWriter.toString();
+        String jsonResponse = body.toString(StandardCharsets.UTF_8);
 
         assertThat(jsonResponse).contains("\"userRoles\":[\"user\",\"admin\"]");
     }
@@ -105,6 +105,19 @@ class JwtAuthenticationIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("POST /actuator/feigncalllog with only the hitec-employee role returns 403 Forbidden")
+    void feignCallLogSwitch_WithoutAdminRole_IsForbidden() throws Exception {
+        mockMvc.perform(post("/actuator/feigncalllog")
+                .contentType("application/json")
+                .content("{\"fullBodyPercent\": 1}")
+                .with(jwt().jwt(jwt -> jwt
+                        .claim("sub", "user123")
+                        .claim("realm_access", Map.of("roles", List.of("hitec-employee")))
+                ).authorities(new SimpleGrantedAuthority("ROLE_hitec-employee"))))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("GET /projects with token without hitec-employee role returns 403 Forbidden")
     void protectedEndpoint_WithTokenButWithoutRole_Returns403() throws Exception {
@@ -0,0 +1,133 @@
+package de.szut.lf8_starter.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("KeycloakHealthService Tests")
+class KeycloakHealthServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    private final AtomicBoolean reachable = new AtomicBoolean(true);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    private KeycloakHealthService service(double jitter) {
+        return new KeycloakHealthService(true, Duration.ofSeconds(15), jitter, 3, 2, () -> {
+            if (!reachable.get()) {
+                throw new ConnectException("Connection refused");
+            }
+        }, Clock.fixed(NOW, ZoneOffset.UTC), taskScheduler);
+    }
+
+    @Test
+    @DisplayName("First probe applies directly")
+    void firstProbe_AppliesDirectly() {
+        reachable.set(false);
+        KeycloakHealthService service = service(0);
+
+        assertThat(service.getLastProbe()).isNull();
+        service.checkKeycloakConnection();
+
+        assertThat(service.isKeycloakUp()).isFalse();
+        assertThat(service.getLastProbe().error()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    @DisplayName("Goes down only after three failed probes in a row")
+    void down_AfterFailureThreshold() {
+        KeycloakHealthService service = service(0);
+        service.checkKeycloakConnection();
+        assertThat(service.isKeycloakUp()).isTrue();
+
+        reachable.set(false);
+        service.checkKeycloakConnection();
+        service.checkKeycloakConnection();
+        assertThat(service.isKeycloakUp()).isTrue();
+
+        service.checkKeycloakConnection();
+        assertThat(service.isKeycloakUp()).isFalse();
+        assertThat(service.getLastProbe().consecutiveFailures()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A single failure between successes does not flip the state")
+    void singleFailure_Ignored() {
+        KeycloakHealthService service = service(0);
+        service.checkKeycloakConnection();
+
+        reachable.set(false);
+        service.checkKeycloakConnection();
+        reachable.set(true);
+        service.checkKeycloakConnection();
+        reachable.set(false);
+        service.checkKeycloakConnection();
+        service.checkKeycloakConnection();
+
+        assertThat(service.isKeycloakUp()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Recovers without restart after two successful probes in a row")
+    void recovers_AfterSuccessThreshold() {
+        reachable.set(false);
+        KeycloakHealthService service = service(0);
+        service.checkKeycloakConnection();
+
+        reachable.set(true);
+        service.checkKeycloakConnection();
+        assertThat(service.isKeycloakUp()).isFalse();
+
+        service.checkKeycloakConnection();
+        assertThat(service.isKeycloakUp()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Probe interval is jittered within the configured range")
+    void nextProbeDelay_WithinJitter() {
+        KeycloakHealthService service = service(0.2);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(service.nextProbeDelay()).isBetween(Duration.ofSeconds(12), Duration.ofSeconds(18));
+        }
+    }
+
+    @Test
+    @DisplayName("Startup probes once and schedules the next probe on the shared scheduler")
+    void startup_SchedulesNextProbe() {
+        KeycloakHealthService service = service(0);
+
+        service.checkKeycloakConnectionOnStartup();
+
+        assertThat(service.isKeycloakUp()).isTrue();
+        verify(taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(15)));
+    }
+
+    @Test
+    @DisplayName("Disabled service never probes")
+    void disabled_NoProbe() {
+        KeycloakHealthService service = new KeycloakHealthService(false, Duration.ofSeconds(15), 0, 3, 2, () -> {
+            throw new IOException("must not be called");
+        }, Clock.systemUTC(), taskScheduler);
+
+        service.checkKeycloakConnectionOnStartup();
+
+        assertThat(service.getLastProbe()).isNull();
+        verifyNoInteractions(taskScheduler);
+    }
+}
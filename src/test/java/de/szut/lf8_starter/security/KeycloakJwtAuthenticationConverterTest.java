@@ -132,6 +132,53 @@ class KeycloakJwtAuthenticationConverterTest {
         assertThat(authToken.getName()).isEqualTo("user123");
     }
 
+    @Test
+    @DisplayName("Same role combination resolves to the same authorities")
+    void whenSameRoles_thenAuthoritiesAreShared() {
+        // Given
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "user123");
+        claims.put("realm_access", Map.of("roles", new ArrayList<>(List.of("hitec-employee", "user"))));
+        Map<String, Object> otherClaims = new HashMap<>();
+        otherClaims.put("sub", "user456");
+        otherClaims.put("realm_access", Map.of("roles", new ArrayList<>(List.of("hitec-employee", "user"))));
+        Map<String, Object> clientClaims = new HashMap<>();
+        clientClaims.put("sub", "user789");
+        clientClaims.put("realm_access", Map.of("roles", List.of("hitec-employee")));
+        clientClaims.put("resource_access", Map.of("project-management-service", Map.of("roles", List.of("user"))));
+
+        // When
+        AbstractAuthenticationToken first = converter.convert(createJwt(claims));
+        AbstractAuthenticationToken second = converter.convert(createJwt(otherClaims));
+        AbstractAuthenticationToken client = converter.convert(createJwt(clientClaims));
+
+        // Then
+        assertThat(second.getAuthorities()).zipSatisfy(first.getAuthorities(),
+                (a, b) -> assertThat(a).isSameAs(b));
+        assertThat(second.getName()).isEqualTo("user456");
+        assertThat(client.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_hitec-employee", "ROLE_user");
+        assertThat(client.getAuthorities().iterator().next()).isSameAs(first.getAuthorities().iterator().next());
+    }
+
+    @Test
+    @DisplayName("Ignores null entries in the role claims")
+    void whenRolesContainNull_thenNullIsSkipped() {
+        // Given
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "user123");
+        claims.put("realm_access", Map.of("roles", Arrays.asList("hitec-employee", null)));
+
+        // When
+        AbstractAuthenticationToken authToken = converter.convert(createJwt(claims));
+
+        // Then
+        assertThat(authToken.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_hitec-employee");
+    }
+
     private Jwt createJwt(Map<String, Object> claims) {
         return new Jwt(
                 "token-value",
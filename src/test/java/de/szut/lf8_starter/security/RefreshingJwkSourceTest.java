@@ -0,0 +1,162 @@
+package de.szut.lf8_starter.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RefreshingJwkSource Tests")
+class RefreshingJwkSourceTest {
+
+    private static final String URI = "http://localhost:9090/realms/hitec-realm/protocol/openid-connect/certs";
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-01T10:00:00Z"));
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private RSAKey first;
+    private RSAKey second;
+    private volatile JWKSet served;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        first = new RSAKeyGenerator(2048).keyID("k1").generate();
+        second = new RSAKeyGenerator(2048).keyID("k2").generate();
+        served = new JWKSet(first.toPublicJWK());
+    }
+
+    private RefreshingJwkSource source(Path cacheFile) {
+        return new RefreshingJwkSource(URI, () -> {
+            fetches.incrementAndGet();
+            return served;
+        }, cacheFile, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("Unknown kid fetches the rotated set, repeated unknown kids are rate-limited")
+    void unknownKid_RefreshesOncePerInterval() throws KeySourceException {
+        RefreshingJwkSource source = source(null);
+        assertThat(source.get(selector("k1"), null)).hasSize(1);
+        assertThat(fetches).hasValue(1);
+
+        served = new JWKSet(List.of(first.toPublicJWK(), second.toPublicJWK()));
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(source.get(selector("k2"), null)).extracting(JWK::getKeyID).containsExactly("k2");
+        assertThat(fetches).hasValue(2);
+
+        assertThat(source.get(selector("unknown"), null)).isEmpty();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Known kid is answered without fetching")
+    void knownKid_NoFetch() throws KeySourceException {
+        RefreshingJwkSource source = source(null);
+        source.get(selector("k1"), null);
+
+        clock.advance(Duration.ofHours(1));
+        source.get(selector("k1"), null);
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Cold start uses the key set persisted by an earlier run")
+    void coldStart_UsesCacheFile() throws KeySourceException {
+        Path cacheFile = tempDir.resolve("jwks.json");
+        source(cacheFile).get(selector("k1"), null);
+
+        RefreshingJwkSource restarted = new RefreshingJwkSource(URI, () -> {
+            throw new IOException("IdP down");
+        }, cacheFile, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+
+        assertThat(restarted.get(selector("k1"), null)).extracting(JWK::getKeyID).containsExactly("k1");
+        assertThat(restarted.currentKeys().getKeys()).allMatch(key -> !key.isPrivate());
+    }
+
+    @Test
+    @DisplayName("Cache file of another IdP is ignored")
+    void cacheFileOfOtherIdp_Ignored() throws KeySourceException {
+        Path cacheFile = tempDir.resolve("jwks.json");
+        source(cacheFile).get(selector("k1"), null);
+
+        RefreshingJwkSource other = new RefreshingJwkSource("http://other/jwks", () -> {
+            throw new IOException("IdP down");
+        }, cacheFile, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+
+        assertThat(other.currentKeys()).isNull();
+        assertThatThrownBy(() -> other.get(selector("k1"), null)).isInstanceOf(KeySourceException.class);
+    }
+
+    @Test
+    @DisplayName("Failed refresh keeps the current keys")
+    void failedRefresh_KeepsKeys() throws KeySourceException {
+        AtomicInteger calls = new AtomicInteger();
+        RefreshingJwkSource source = new RefreshingJwkSource(URI, () -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IOException("timeout");
+            }
+            return served;
+        }, null, Duration.ofMinutes(5), Duration.ofSeconds(30), clock);
+        source.get(selector("k1"), null);
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(source.get(selector("k2"), null)).isEmpty();
+        assertThat(source.get(selector("k1"), null)).hasSize(1);
+        assertThat(calls).hasValue(2);
+    }
+
+    private static JWKSelector selector(String kid) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}